@@ -0,0 +1,29 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 기본 패키지 클래스(HeapEx, ModifyHeapEx 등) 호출용
+ * - JMH 생성 코드는 이름 있는 패키지에 있어야 하고, 이름 있는 패키지에서는 기본 패키지 클래스를 import 할 수 없다
+ * - 인스턴스에 바인딩한 MethodHandle 로 한 번만 찾아 둔다
+ */
+public final class DefaultPackage {
+
+    private DefaultPackage() {
+    }
+
+    public static MethodHandle method(String className, String methodName, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            Class<?> type = Class.forName(className);
+            Object instance = type.getDeclaredConstructor().newInstance();
+            return MethodHandles.publicLookup()
+                .findVirtual(type, methodName, MethodType.methodType(returnType, parameterTypes))
+                .bindTo(instance);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot bind " + className + "." + methodName, e);
+        }
+    }
+
+}
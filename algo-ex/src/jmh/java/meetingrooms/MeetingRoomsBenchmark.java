@@ -0,0 +1,97 @@
+package meetingrooms;
+
+import bench.DefaultPackage;
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 회의실 최소 개수: HeapEx(PriorityQueue + 비교자 정렬) vs ModifyHeapEx(두 정렬 배열 스윕) vs MeetingRooms(IntMinHeap + long 키 정렬)
+ * - HeapEx 와 정렬은 입력을 제자리 정렬하므로 모든 벤치마크가 측정 안에서 원래 행 순서를 복사해 두고 시작한다
+ *   (행 참조 복사만, 비용은 모든 변형에 똑같이 들어가고 copyBaseline 으로 따로 잰다 - Level.Invocation 은 쓰지 않음)
+ * - overlap: 평균 회의 길이 / 평균 시작 간격 ≈ 동시에 진행 중인 회의 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MeetingRoomsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int count;
+
+    @Param({"1", "16", "1024"})
+    int overlap;
+
+    private static final MethodHandle HEAP_EX =
+        DefaultPackage.method("HeapEx", "minRooms", int.class, int[][].class);
+    private static final MethodHandle MODIFY_HEAP_EX =
+        DefaultPackage.method("ModifyHeapEx", "minRooms", int.class, int[][].class);
+
+    private final MeetingRooms meetingRooms = new MeetingRooms();
+
+    private int[][] original;
+    private int[][] intervals;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int gap = 100;
+        original = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(count) * gap;
+            int length = 1 + random.nextInt(2 * overlap * gap);
+            original[i] = new int[]{start, start + length};
+        }
+        intervals = original.clone();
+    }
+
+    @Benchmark
+    public int[][] copyBaseline() {
+        return restoreOrder();
+    }
+
+    @Benchmark
+    public int heapEx() throws Throwable {
+        return (int) HEAP_EX.invokeExact(restoreOrder());
+    }
+
+    @Benchmark
+    public int sweep() throws Throwable {
+        return (int) MODIFY_HEAP_EX.invokeExact(restoreOrder());
+    }
+
+    @Benchmark
+    public int primitiveHeap() {
+        return meetingRooms.minRooms(restoreOrder());
+    }
+
+    @Benchmark
+    public int[][] sortComparator() {
+        int[][] rows = restoreOrder();
+        Arrays.sort(rows, (a, b) -> Integer.compare(a[0], b[0]));
+        return rows;
+    }
+
+    @Benchmark
+    public int[][] sortPackedKeys() {
+        int[][] rows = restoreOrder();
+        IntervalSort.sortByStart(rows);
+        return rows;
+    }
+
+    // 이전 호출이 정렬해 둔 순서를 원래대로 되돌린다
+    private int[][] restoreOrder() {
+        System.arraycopy(original, 0, intervals, 0, count);
+        return intervals;
+    }
+
+}
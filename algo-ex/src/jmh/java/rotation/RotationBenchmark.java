@@ -0,0 +1,87 @@
+package rotation;
+
+import bench.DefaultPackage;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 배열 회전: RotateArray(새 배열) / ModifyRotateArrayVer(세 번 뒤집기) / juggling / block swap / 병렬 / off-heap
+ * - 제자리 회전은 같은 배열을 계속 회전 (내용과 무관하게 비용이 같음)
+ * - k: 정수면 그대로, 소수면 size 에 대한 비율 (0.5 = 절반, gcd 큼 / 0.333 = gcd 작음)
+ * - size 64M 은 int 256MB / long 512MB - L3 보다 큰 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RotationBenchmark {
+
+    @Param({"1000", "1000000", "67108864"})
+    int size;
+
+    @Param({"1", "0.333", "0.5"})
+    String k;
+
+    private static final MethodHandle ROTATE_ARRAY =
+        DefaultPackage.method("RotateArray", "solution", int[].class, int[].class, int.class);
+    private static final MethodHandle REVERSAL =
+        DefaultPackage.method("ModifyRotateArrayVer", "solution", int[].class, int[].class, int.class);
+
+    private int shift;
+    private int[] array;
+    private LongBuffer offHeap;
+
+    @Setup
+    public void setUp() {
+        shift = k.contains(".") ? (int) (size * Double.parseDouble(k)) : Integer.parseInt(k);
+        array = new Random(42).ints(size).toArray();
+        offHeap = ByteBuffer.allocateDirect(size * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        for (int i = 0; i < size; i++) {
+            offHeap.put(i, array[i]);
+        }
+    }
+
+    @Benchmark
+    public int[] newArray() throws Throwable {
+        return (int[]) ROTATE_ARRAY.invokeExact(array, shift);
+    }
+
+    @Benchmark
+    public int[] threeReversals() throws Throwable {
+        return (int[]) REVERSAL.invokeExact(array, shift);
+    }
+
+    @Benchmark
+    public int[] juggling() {
+        return ArrayRotation.juggling(array, shift);
+    }
+
+    @Benchmark
+    public int[] blockSwap() {
+        return ArrayRotation.blockSwap(array, shift);
+    }
+
+    @Benchmark
+    public int[] parallel() {
+        return ArrayRotation.parallel(array, shift);
+    }
+
+    @Benchmark
+    public LongBuffer offHeapBlockSwap() throws IOException {
+        OffHeapRotation.rotate(offHeap, shift);
+        return offHeap;
+    }
+
+}
@@ -0,0 +1,101 @@
+import java.util.*;
+import meetingrooms.OccupancyIndex;
+
+/**
+ * OccupancyIndex 스트레스 검증 - 무작위 예약/취소를 반복하면서 매번 ModifyHeapEx 재계산 결과와 비교
+ * - 전체 최대: ModifyHeapEx.minRooms(현재 예약 전체)
+ * - 구간 [from, to) 최대: 각 예약을 구간으로 잘라낸 뒤 ModifyHeapEx.minRooms
+ * - 시간 범위 좁음(겹침 많음) / 넓음 / int 경계 근처 세 가지 분포
+ * - 노드 회수: 사용 중인 노드 수가 남은 예약당 2 * 32 개를 넘지 않고, 모두 취소하면 루트만 남아야 함
+ */
+public class OccupancyStressCheck {
+
+    private final ModifyHeapEx reference = new ModifyHeapEx();
+
+    private boolean run(String name, long seed, int operations, int span, int base) {
+        Random random = new Random(seed);
+        OccupancyIndex index = new OccupancyIndex();
+        List<int[]> live = new ArrayList<>();
+
+        for (int op = 0; op < operations; op++) {
+            if (live.isEmpty() || random.nextInt(3) != 0) {
+                int start = base + random.nextInt(span);
+                int end = (int) Math.min(Integer.MAX_VALUE, (long) start + 1 + random.nextInt(Math.max(1, span / 8)));
+                if (start >= end) {
+                    continue;
+                }
+                index.add(start, end);
+                live.add(new int[]{start, end});
+            } else {
+                int[] booking = live.remove(random.nextInt(live.size()));
+                index.remove(booking[0], booking[1]);
+            }
+
+            int expected = reference.minRooms(live.toArray(new int[0][]));
+            int from = base + random.nextInt(span);
+            int to = (int) Math.min(Integer.MAX_VALUE, (long) from + random.nextInt(span));
+            int expectedWindow = reference.minRooms(clip(live, from, to));
+
+            if (index.maxConcurrent() != expected || index.maxConcurrent(from, to) != expectedWindow
+                || index.size() != live.size() || index.nodeCount() > 1 + 64L * live.size()) {
+                System.out.printf("[%s] op %d: 전체 %d (기대 %d), [%d, %d) %d (기대 %d), 노드 %d -> FAIL%n", name, op,
+                    index.maxConcurrent(), expected, from, to, index.maxConcurrent(from, to), expectedWindow,
+                    index.nodeCount());
+                return false;
+            }
+        }
+        int remaining = live.size();
+        int peak = index.maxConcurrent();
+        int nodesBeforeDrain = index.nodeCount();
+        for (int[] booking : live) {
+            index.remove(booking[0], booking[1]);
+        }
+        if (index.nodeCount() != 1 || index.maxConcurrent() != 0) {
+            System.out.printf("[%s] 전부 취소 후 노드 %d, 최대 %d -> FAIL%n", name, index.nodeCount(),
+                index.maxConcurrent());
+            return false;
+        }
+        System.out.printf("[%s] %d회 예약/취소, 남은 예약 %d, 최대 %d, 노드 %d (전부 취소 후 1) -> PASS%n",
+            name, operations, remaining, peak, nodesBeforeDrain);
+        return true;
+    }
+
+    // [from, to) 로 잘라낸 예약 (겹치지 않으면 제외)
+    private int[][] clip(List<int[]> bookings, int from, int to) {
+        List<int[]> clipped = new ArrayList<>();
+        for (int[] booking : bookings) {
+            int start = Math.max(booking[0], from);
+            int end = Math.min(booking[1], to);
+            if (start < end) {
+                clipped.add(new int[]{start, end});
+            }
+        }
+        return clipped.toArray(new int[0][]);
+    }
+
+    // === 메인: 검증 실행 ===
+    public static void main(String[] args) {
+        OccupancyStressCheck check = new OccupancyStressCheck();
+        boolean pass = check.run("dense", 1, 5_000, 200, 0)
+            & check.run("sparse", 2, 5_000, 1_000_000, -500_000)
+            & check.run("int-edges", 3, 2_000, 1_000, Integer.MAX_VALUE - 1_000)
+            & check.run("negative-edge", 4, 2_000, 1_000, Integer.MIN_VALUE);
+
+        // 없는 예약 취소는 거부
+        OccupancyIndex index = new OccupancyIndex();
+        index.add(0, 30);
+        try {
+            index.remove(5, 10);
+            pass = false;
+            System.out.println("[remove-missing] 예외 없음 -> FAIL");
+        } catch (IllegalArgumentException e) {
+            System.out.println("[remove-missing] " + e.getMessage() + " -> PASS");
+        }
+
+        System.out.println(pass ? "ALL PASS" : "FAIL");
+        if (!pass) {
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package meetingrooms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * int 전용 최소 힙 (PriorityQueue<Integer> 대체)
+ * - 배열 기반 이진 힙, 박싱 없음
+ * - clear() 후 재사용하면 배열을 다시 만들지 않는다 → 워밍업 이후 할당 없음
+ * - offer / poll: O(log n), peek: O(1)
+ */
+public class IntMinHeap {
+
+    private int[] heap;
+    private int size;
+
+    public IntMinHeap() {
+        this(16);
+    }
+
+    public IntMinHeap(int initialCapacity) {
+        heap = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void offer(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        // 위로 올리기 (sift-up): 빈 자리를 부모 쪽으로 옮기며 마지막에 한 번만 기록
+        int child = size++;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            int p = heap[parent];
+            if (p <= value) {
+                break;
+            }
+            heap[child] = p;
+            child = parent;
+        }
+        heap[child] = value;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    public int poll() {
+        int top = peek();
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(last);
+        }
+        return top;
+    }
+
+    /** poll() 후 offer(value) 를 한 번의 sift-down 으로 (top 을 value 로 교체) */
+    public int replaceTop(int value) {
+        int top = peek();
+        siftDown(value);
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 용량은 유지 */
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (heap.length < capacity) {
+            heap = Arrays.copyOf(heap, capacity);
+        }
+    }
+
+    // 루트에 value 를 놓고 아래로 내리기
+    private void siftDown(int value) {
+        int parent = 0;
+        int half = size >>> 1;
+        while (parent < half) {
+            int child = 2 * parent + 1;
+            int right = child + 1;
+            if (right < size && heap[right] < heap[child]) {
+                child = right;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = value;
+    }
+
+}
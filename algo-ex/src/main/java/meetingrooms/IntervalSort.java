@@ -0,0 +1,61 @@
+package meetingrooms;
+
+import java.util.Arrays;
+
+/**
+ * int[][] 구간을 시작 시간 기준으로 정렬 - 비교자 람다 대신 long 키 정렬
+ * - 키 = (start << 32) | 하위 32비트 값 → Arrays.sort(long[]) (원시 타입 정렬, 박싱/비교자 호출 없음)
+ * - start 는 부호 있는 상위 32비트라 음수 시작 시간도 순서가 맞다
+ */
+public final class IntervalSort {
+
+    private IntervalSort() {
+    }
+
+    /**
+     * (start, end) 를 long 하나로 묶어 시작 시간 순으로 정렬 (같은 시작이면 end 순)
+     * - int[][] 를 다시 만들지 않고 결과를 바로 쓸 때 사용
+     * - out 이 n 이상이면 재사용 (할당 없음)
+     */
+    public static long[] sortedByStart(int[][] intervals, long[] out) {
+        int n = intervals.length;
+        long[] keys = out != null && out.length >= n ? out : new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = pack(intervals[i][0], intervals[i][1]);
+        }
+        Arrays.sort(keys, 0, n);
+        return keys;
+    }
+
+    /**
+     * intervals 자체를 시작 시간 순으로 재배열 (Arrays.sort(intervals, comparator) 대체)
+     * - 키 하위 32비트에 원래 위치를 넣어 정렬한 뒤 행 참조만 옮긴다
+     * - 같은 시작 시간은 원래 순서 유지 (안정 정렬)
+     */
+    public static void sortByStart(int[][] intervals) {
+        int n = intervals.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) intervals[i][0] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[][] rows = intervals.clone();
+        for (int i = 0; i < n; i++) {
+            intervals[i] = rows[(int) keys[i]];
+        }
+    }
+
+    public static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+
+    public static int start(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int end(long packed) {
+        return (int) packed;
+    }
+
+}
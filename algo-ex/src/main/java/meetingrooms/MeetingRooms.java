@@ -0,0 +1,40 @@
+package meetingrooms;
+
+/**
+ * 회의실 최소 개수 - HeapEx 와 같은 알고리즘을 원시 타입으로
+ * - 시작 시간 정렬: IntervalSort.sortedByStart (long 키, 입력 배열은 건드리지 않음)
+ * - 종료 시간 최소 힙: IntMinHeap
+ * - 정렬 버퍼와 힙을 인스턴스에 두고 재사용 → 같은 크기 이하 입력을 반복 계산하면 할당 없음
+ * - 반열림 구간 [start, end): 가장 빨리 끝나는 회의의 end <= start 면 그 방 재사용
+ *
+ * 시간 복잡도: O(n log n), 공간 복잡도: O(n) (재사용 버퍼)
+ * 한 인스턴스를 여러 스레드에서 동시에 쓰지 않는다.
+ */
+public class MeetingRooms {
+
+    private final IntMinHeap ends = new IntMinHeap();
+    private long[] keys;
+
+    public int minRooms(int[][] intervals) {
+        if (intervals == null || intervals.length == 0) {
+            return 0;
+        }
+
+        keys = IntervalSort.sortedByStart(intervals, keys);
+        ends.clear();
+        ends.ensureCapacity(intervals.length);
+
+        for (int i = 0; i < intervals.length; i++) {
+            int start = IntervalSort.start(keys[i]);
+            int end = IntervalSort.end(keys[i]);
+            if (!ends.isEmpty() && ends.peek() <= start) {
+                ends.replaceTop(end);       // poll + offer 를 한 번에
+            } else {
+                ends.offer(end);
+            }
+        }
+
+        return ends.size();
+    }
+
+}
@@ -0,0 +1,178 @@
+package meetingrooms;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 실시간 회의실 점유 인덱스 - 예약 추가/취소 시 바로 갱신, 임의 시간 구간의 최대 동시 회의 수 조회
+ * - 시간축 전체(int 범위)를 덮는 동적 세그먼트 트리, 필요한 노드만 만든다
+ * - 예약 [start, end) = 구간 [start, end - 1] 에 +1, 취소는 -1
+ * - 지연 전파는 태그 고정 방식: 노드의 add 를 자식으로 내리지 않고, 조회할 때 경로의 add 를 더한다
+ *   (max[node] = add[node] + max(왼쪽 max, 오른쪽 max), 없는 자식은 0)
+ * - 전체 최대 = HeapEx / ModifyHeapEx 의 minRooms 와 같은 값
+ *
+ * 시간 복잡도: 추가/취소/구간 조회 O(log U) (U = 2^32, 트리 높이 32)
+ * 공간 복잡도: 남아 있는 예약당 최대 O(log U) 노드
+ * - 취소로 max 가 0 이 된 자식은 떼어 내 free list 로 회수하고, 새 노드를 만들 때 먼저 재사용한다
+ *   (add 는 항상 0 이상이므로 max 가 0 이면 그 아래 노드도 모두 0 - 이미 회수된 상태)
+ * 스레드 안전하지 않음.
+ */
+public class OccupancyIndex {
+
+    private static final long LOW = Integer.MIN_VALUE;
+    private static final long HIGH = Integer.MAX_VALUE;
+    private static final int ROOT = 1;
+
+    // 노드 배열 (0 = 없음)
+    private int[] left;
+    private int[] right;
+    private int[] add;
+    private int[] max;
+    private int nodes = 2;
+    private int freeHead;           // 회수된 노드 목록 (left 를 다음 노드 링크로 사용, 0 = 비어 있음)
+    private int liveNodes = 1;      // 루트 포함
+
+    // 취소 검증용 예약 수 (start, end) -> 개수
+    private final Map<Long, Integer> bookings = new HashMap<>();
+    private int size;
+
+    public OccupancyIndex() {
+        int capacity = 1 << 10;
+        left = new int[capacity];
+        right = new int[capacity];
+        add = new int[capacity];
+        max = new int[capacity];
+    }
+
+    public void add(int start, int end) {
+        checkInterval(start, end);
+        bookings.merge(IntervalSort.pack(start, end), 1, Integer::sum);
+        size++;
+        update(ROOT, LOW, HIGH, start, end - 1L, 1);
+    }
+
+    /** 없는 예약을 취소하면 IllegalArgumentException */
+    public void remove(int start, int end) {
+        checkInterval(start, end);
+        long key = IntervalSort.pack(start, end);
+        Integer count = bookings.get(key);
+        if (count == null) {
+            throw new IllegalArgumentException("No booking [" + start + ", " + end + ")");
+        }
+        if (count == 1) {
+            bookings.remove(key);
+        } else {
+            bookings.put(key, count - 1);
+        }
+        size--;
+        update(ROOT, LOW, HIGH, start, end - 1L, -1);
+    }
+
+    /** 전체 시간에서 최대 동시 회의 수 = 필요한 최소 회의실 수 - O(1) */
+    public int maxConcurrent() {
+        return max[ROOT];
+    }
+
+    /** [from, to) 안에서 최대 동시 회의 수 (from >= to 이면 0) */
+    public int maxConcurrent(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        return query(ROOT, LOW, HIGH, from, to - 1L);
+    }
+
+    /** 현재 예약 수 */
+    public int size() {
+        return size;
+    }
+
+    /** 사용 중인 트리 노드 수 (루트 포함, 회수된 노드 제외) */
+    public int nodeCount() {
+        return liveNodes;
+    }
+
+    private void update(int node, long lo, long hi, long from, long to, int delta) {
+        if (from <= lo && hi <= to) {
+            add[node] += delta;
+            max[node] += delta;
+            return;
+        }
+        long mid = (lo + hi) >> 1;
+        if (from <= mid) {
+            if (left[node] == 0) {
+                int child = newNode();      // newNode 가 배열을 키울 수 있으므로 먼저 호출
+                left[node] = child;
+            }
+            update(left[node], lo, mid, from, to, delta);
+            if (max[left[node]] == 0) {
+                left[node] = release(left[node]);
+            }
+        }
+        if (to > mid) {
+            if (right[node] == 0) {
+                int child = newNode();      // newNode 가 배열을 키울 수 있으므로 먼저 호출
+                right[node] = child;
+            }
+            update(right[node], mid + 1, hi, from, to, delta);
+            if (max[right[node]] == 0) {
+                right[node] = release(right[node]);
+            }
+        }
+        max[node] = add[node] + Math.max(max[left[node]], max[right[node]]);
+    }
+
+    private int query(int node, long lo, long hi, long from, long to) {
+        if (node == 0) {
+            return 0;
+        }
+        if (from <= lo && hi <= to) {
+            return max[node];
+        }
+        long mid = (lo + hi) >> 1;
+        int best = Integer.MIN_VALUE;
+        if (from <= mid) {
+            best = query(left[node], lo, mid, from, to);
+        }
+        if (to > mid) {
+            best = Math.max(best, query(right[node], mid + 1, hi, from, to));
+        }
+        return add[node] + best;
+    }
+
+    // 노드 0 은 "없는 자식" - max[0] = 0 으로 계속 유지
+    private int newNode() {
+        liveNodes++;
+        if (freeHead != 0) {
+            int node = freeHead;
+            freeHead = left[node];
+            left[node] = 0;
+            return node;
+        }
+        if (nodes == left.length) {
+            int capacity = nodes * 2;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            add = Arrays.copyOf(add, capacity);
+            max = Arrays.copyOf(max, capacity);
+        }
+        return nodes++;
+    }
+
+    // max 가 0 인 노드를 free list 에 넣고, 부모의 자식 자리에 넣을 0 을 반환
+    private int release(int node) {
+        add[node] = 0;
+        right[node] = 0;
+        left[node] = freeHead;
+        freeHead = node;
+        liveNodes--;
+        return 0;
+    }
+
+    private static void checkInterval(int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("start must be before end: [" + start + ", " + end + ")");
+        }
+    }
+
+}
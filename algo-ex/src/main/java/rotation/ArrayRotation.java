@@ -0,0 +1,195 @@
+package rotation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 제자리 배열 회전 - RotateArray / ModifyRotateArrayVer 와 같은 "오른쪽으로 K 번" 회전
+ * - 내부적으로는 왼쪽 회전 r = N - K % N (앞 r 개를 뒤로 보냄) 으로 계산한다
+ *
+ * 1. juggling (cycle-leader)
+ *    - gcd(N, r) 개의 순환을 따라 한 칸씩 옮긴다 (각 원소는 정확히 한 번 이동)
+ *    - 이웃한 순환 시작점들은 매 단계 연속된 위치에 있으므로, gcd 가 크면 TILE 개씩 묶어 arraycopy 로 옮긴다
+ *    - gcd 가 작으면(예: 1) 보폭 r 로 흩어진 접근이라 큰 배열에서는 캐시 미스가 많다
+ * 2. block swap (Gries-Mills)
+ *    - 두 블록 A|B 중 짧은 쪽을 긴 쪽 끝(또는 앞)과 통째로 맞바꾸는 것을 반복 - 모든 접근이 순차
+ *    - 짧은 쪽이 BUFFER 이하가 되면 짧은 쪽만 임시 배열에 두고 긴 쪽을 arraycopy(memmove) 로 민다
+ * 3. parallel
+ *    - 세 번 뒤집기를 ForkJoin 으로 - 각 뒤집기의 스왑 쌍을 구간으로 나눠 병렬 처리
+ *
+ * 시간 복잡도: 모두 O(N), 공간 복잡도: O(1) (block swap 은 최대 BUFFER 개 임시 배열)
+ */
+public final class ArrayRotation {
+
+    // juggling 에서 한 번에 옮기는 순환 수 (64 int = 캐시 라인 4개)
+    private static final int TILE = 64;
+
+    // block swap 마지막 단계 임시 배열 최대 크기 (16KB - L1 에 들어가는 크기)
+    private static final int BUFFER = 4096;
+
+    // 병렬 뒤집기에서 한 작업이 맡는 최소 스왑 수
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    private ArrayRotation() {
+    }
+
+    public static int[] juggling(int[] a, int k) {
+        int n = a.length;
+        int r = leftShift(n, k);
+        if (r == 0) {
+            return a;
+        }
+        int cycles = gcd(n, r);
+        int steps = n / cycles;
+        int[] saved = new int[Math.min(TILE, cycles)];
+
+        for (int first = 0; first < cycles; first += TILE) {
+            int width = Math.min(TILE, cycles - first);
+            // 순환 시작점 [first, first + width) 를 묶어서 이동: 위치 p 에 p + r 의 값을 당겨 온다
+            System.arraycopy(a, first, saved, 0, width);
+            int position = first;
+            for (int step = 1; step < steps; step++) {
+                int next = position + r;
+                if (next >= n) {
+                    next -= n;
+                }
+                System.arraycopy(a, next, a, position, width);
+                position = next;
+            }
+            System.arraycopy(saved, 0, a, position, width);
+        }
+        return a;
+    }
+
+    public static int[] blockSwap(int[] a, int k) {
+        int n = a.length;
+        int r = leftShift(n, k);
+        if (r == 0) {
+            return a;
+        }
+        int[] buffer = new int[Math.min(BUFFER, Math.min(r, n - r))];
+
+        // 아직 자리를 못 잡은 구간 [from, from + left + right) = A(left) | B(right)
+        int from = 0;
+        int left = r;
+        int right = n - r;
+        while (left > 0 && right > 0) {
+            if (Math.min(left, right) <= buffer.length) {
+                shiftWithBuffer(a, from, left, right, buffer);
+                return a;
+            }
+            if (left <= right) {
+                // A | B1 B2 (|B2| = |A|) -> B2 B1 | A : A 는 제자리
+                swapRanges(a, from, from + left + right - left, left);
+                right -= left;
+            } else {
+                // A1 A2 | B (|A1| = |B|) -> B | A2 A1 : B 는 제자리
+                swapRanges(a, from, from + left, right);
+                from += right;
+                left -= right;
+            }
+        }
+        return a;
+    }
+
+    public static int[] parallel(int[] a, int k) {
+        return parallel(a, k, ForkJoinPool.commonPool());
+    }
+
+    public static int[] parallel(int[] a, int k, ForkJoinPool pool) {
+        int n = a.length;
+        int r = leftShift(n, k);
+        if (r == 0) {
+            return a;
+        }
+        pool.invoke(new ReverseTask(a, 0, n - 1));
+        pool.invoke(new ReverseTask(a, 0, n - r - 1));
+        pool.invoke(new ReverseTask(a, n - r, n - 1));
+        return a;
+    }
+
+    public static void main(String[] args) {
+        // A = [3, 8, 9, 7, 6], K = 3 => [9, 7, 6, 3, 8]
+        System.out.println("juggling: " + Arrays.toString(juggling(new int[]{3, 8, 9, 7, 6}, 3)));
+        System.out.println("blockSwap: " + Arrays.toString(blockSwap(new int[]{3, 8, 9, 7, 6}, 3)));
+        System.out.println("parallel: " + Arrays.toString(parallel(new int[]{3, 8, 9, 7, 6}, 3)));
+    }
+
+    // 오른쪽 K 회전 = 왼쪽 (N - K % N) 회전
+    static int leftShift(int n, int k) {
+        if (n == 0) {
+            return 0;
+        }
+        int right = Math.floorMod(k, n);
+        return right == 0 ? 0 : n - right;
+    }
+
+    // 짧은 쪽을 임시 배열에 두고 긴 쪽을 arraycopy 로 민 뒤 짧은 쪽을 반대편에 놓는다
+    private static void shiftWithBuffer(int[] a, int from, int left, int right, int[] buffer) {
+        if (left <= right) {
+            System.arraycopy(a, from, buffer, 0, left);
+            System.arraycopy(a, from + left, a, from, right);
+            System.arraycopy(buffer, 0, a, from + right, left);
+        } else {
+            System.arraycopy(a, from + left, buffer, 0, right);
+            System.arraycopy(a, from, a, from + right, left);
+            System.arraycopy(buffer, 0, a, from, right);
+        }
+    }
+
+    private static void swapRanges(int[] a, int i, int j, int length) {
+        for (int x = 0; x < length; x++) {
+            int tmp = a[i + x];
+            a[i + x] = a[j + x];
+            a[j + x] = tmp;
+        }
+    }
+
+    private static int gcd(int x, int y) {
+        while (y != 0) {
+            int t = x % y;
+            x = y;
+            y = t;
+        }
+        return x;
+    }
+
+    // a[start..end] 뒤집기 - 스왑 쌍 (start + x, end - x) 을 구간으로 나눠 병렬 처리
+    private static final class ReverseTask extends RecursiveAction {
+
+        private final int[] a;
+        private final int start;
+        private final int end;
+        private final int from;
+        private final int to;
+
+        ReverseTask(int[] a, int start, int end) {
+            this(a, start, end, 0, Math.max(0, (end - start + 1) / 2));
+        }
+
+        private ReverseTask(int[] a, int start, int end, int from, int to) {
+            this.a = a;
+            this.start = start;
+            this.end = end;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                for (int x = from; x < to; x++) {
+                    int tmp = a[start + x];
+                    a[start + x] = a[end - x];
+                    a[end - x] = tmp;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReverseTask(a, start, end, from, mid), new ReverseTask(a, start, end, mid, to));
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package rotation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 힙 밖(off-heap) long 배열 회전 - 오른쪽으로 K 번 (ArrayRotation 과 같은 의미)
+ * - LongBuffer: direct 버퍼나 MappedByteBuffer.asLongBuffer() 를 제자리에서 회전
+ * - 파일: long(8바이트, 네이티브 바이트 순서) 배열로 보고 회전. 2GB 이하는 메모리 맵, 넘으면 FileChannel 위치 읽기/쓰기
+ * - 알고리즘은 block swap: 모든 접근이 순차적이라 페이지 캐시/디스크에도 유리
+ * - 힙에는 CHUNK 크기 임시 배열 두 개만 쓴다 (원소 수와 무관)
+ */
+public final class OffHeapRotation {
+
+    // 한 번에 옮기는 원소 수 (long 8192 개 = 64KB)
+    private static final int CHUNK = 8192;
+
+    private OffHeapRotation() {
+    }
+
+    public static void rotate(LongBuffer buffer, long k) throws IOException {
+        rotate(new BufferStore(buffer), k);
+    }
+
+    public static void rotateFile(Path file, long k) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = channel.size();
+            if (bytes % Long.BYTES != 0) {
+                throw new IllegalArgumentException("File size is not a multiple of 8: " + bytes);
+            }
+            if (bytes <= Integer.MAX_VALUE) {
+                LongBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+                rotate(new BufferStore(mapped), k);
+            } else {
+                rotate(new ChannelStore(channel, bytes / Long.BYTES), k);
+            }
+        }
+    }
+
+    // 임의 위치 일괄 읽기/쓰기만 있으면 되는 저장소
+    interface LongStore {
+
+        long size();
+
+        void read(long index, long[] dst, int length) throws IOException;
+
+        void write(long index, long[] src, int length) throws IOException;
+
+    }
+
+    static void rotate(LongStore store, long k) throws IOException {
+        long n = store.size();
+        if (n == 0) {
+            return;
+        }
+        long right = Math.floorMod(k, n);
+        if (right == 0) {
+            return;
+        }
+        long[] first = new long[CHUNK];
+        long[] second = new long[CHUNK];
+
+        long from = 0;
+        long left = n - right;
+        long rest = right;
+        while (left > 0 && rest > 0) {
+            if (Math.min(left, rest) <= CHUNK) {
+                shiftWithBuffer(store, from, left, rest, first, second);
+                return;
+            }
+            if (left <= rest) {
+                swapRanges(store, from, from + rest, left, first, second);
+                rest -= left;
+            } else {
+                swapRanges(store, from, from + left, rest, first, second);
+                from += rest;
+                left -= rest;
+            }
+        }
+    }
+
+    private static void swapRanges(LongStore store, long i, long j, long length, long[] first, long[] second)
+        throws IOException {
+        for (long x = 0; x < length; x += CHUNK) {
+            int len = (int) Math.min(CHUNK, length - x);
+            store.read(i + x, first, len);
+            store.read(j + x, second, len);
+            store.write(i + x, second, len);
+            store.write(j + x, first, len);
+        }
+    }
+
+    // 짧은 쪽(CHUNK 이하)을 first 에 두고 긴 쪽을 CHUNK 단위로 민다 - 겹치므로 이동 방향 쪽 끝부터
+    private static void shiftWithBuffer(LongStore store, long from, long left, long right, long[] saved, long[] moving)
+        throws IOException {
+        if (left <= right) {
+            // A(left) | B(right) -> B | A : B 를 앞으로 left 만큼 (앞쪽부터)
+            store.read(from, saved, (int) left);
+            for (long x = 0; x < right; x += CHUNK) {
+                int len = (int) Math.min(CHUNK, right - x);
+                store.read(from + left + x, moving, len);
+                store.write(from + x, moving, len);
+            }
+            store.write(from + right, saved, (int) left);
+        } else {
+            // A | B(right) -> B | A : A 를 뒤로 right 만큼 (뒤쪽부터)
+            store.read(from + left, saved, (int) right);
+            for (long x = left; x > 0; x -= CHUNK) {
+                int len = (int) Math.min(CHUNK, x);
+                store.read(from + x - len, moving, len);
+                store.write(from + right + x - len, moving, len);
+            }
+            store.write(from, saved, (int) right);
+        }
+    }
+
+    private static final class BufferStore implements LongStore {
+
+        private final LongBuffer buffer;
+
+        BufferStore(LongBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long size() {
+            return buffer.limit();
+        }
+
+        @Override
+        public void read(long index, long[] dst, int length) {
+            buffer.get((int) index, dst, 0, length);
+        }
+
+        @Override
+        public void write(long index, long[] src, int length) {
+            buffer.put((int) index, src, 0, length);
+        }
+
+    }
+
+    // 2GB 넘는 파일 - direct 버퍼 하나로 위치 지정 읽기/쓰기
+    private static final class ChannelStore implements LongStore {
+
+        private final FileChannel channel;
+        private final long size;
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK * Long.BYTES).order(ByteOrder.nativeOrder());
+
+        ChannelStore(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public void read(long index, long[] dst, int length) throws IOException {
+            bytes.clear().limit(length * Long.BYTES);
+            long position = index * Long.BYTES;
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, position + bytes.position()) < 0) {
+                    throw new IOException("Unexpected end of file at " + (position + bytes.position()));
+                }
+            }
+            bytes.flip();
+            bytes.asLongBuffer().get(dst, 0, length);
+        }
+
+        @Override
+        public void write(long index, long[] src, int length) throws IOException {
+            bytes.clear();
+            bytes.asLongBuffer().put(src, 0, length);
+            bytes.limit(length * Long.BYTES);
+            long position = index * Long.BYTES;
+            while (bytes.hasRemaining()) {
+                channel.write(bytes, position + bytes.position());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.com.algosapi.algorithm;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** 벤치마크 입력 형태 - 같은 seed 로 매번 동일한 데이터를 만든다 */
+public enum InputShape {
+    RANDOM,
+    SORTED,
+    DUPLICATES,
+    LONG_WORDS;
+
+    private static final long SEED = 42;
+
+    public int[] ints(int size) {
+        Random random = new Random(SEED);
+        switch (this) {
+            case SORTED: {
+                int[] values = random.ints(size).toArray();
+                Arrays.sort(values);
+                return values;
+            }
+            case DUPLICATES:
+                return random.ints(size, 0, Math.max(1, size / 100)).toArray();
+            default:
+                return random.ints(size).toArray();
+        }
+    }
+
+    /** 대략 size 글자의 영문 텍스트 */
+    public String text(int size) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(size + 256);
+        while (sb.length() < size) {
+            int wordLength;
+            int vocabulary;
+            switch (this) {
+                case DUPLICATES:
+                    wordLength = 3 + random.nextInt(5);
+                    vocabulary = 64;
+                    break;
+                case LONG_WORDS:
+                    wordLength = 40 + random.nextInt(160);
+                    vocabulary = Integer.MAX_VALUE;
+                    break;
+                default:
+                    wordLength = 2 + random.nextInt(10);
+                    vocabulary = Integer.MAX_VALUE;
+            }
+            appendWord(sb, new Random(random.nextInt(vocabulary)), wordLength);
+            sb.append(random.nextInt(8) == 0 ? ". " : " ");
+        }
+        sb.setLength(size);
+        return sb.toString();
+    }
+
+    /** 괄호 문자열 - SORTED 는 깊게 중첩, 그 외에는 얕은 괄호가 반복 */
+    public String brackets(int size) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(size);
+        if (this == SORTED) {
+            for (int i = 0; i < size / 2; i++) {
+                sb.append("([{".charAt(i % 3));
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                sb.append(")]}".charAt(i % 3));
+            }
+            return sb.toString();
+        }
+        while (sb.length() + 6 <= size) {
+            sb.append(random.nextBoolean() ? "([]){}" : "{[()]}");
+        }
+        return sb.toString();
+    }
+
+    private static void appendWord(StringBuilder sb, Random word, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + word.nextInt(26));
+            sb.append(i == 0 && word.nextInt(4) == 0 ? Character.toUpperCase(c) : c);
+        }
+    }
+
+}
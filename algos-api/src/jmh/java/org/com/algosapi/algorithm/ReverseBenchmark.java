@@ -0,0 +1,40 @@
+package org.com.algosapi.algorithm;
+
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReverseBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "LONG_WORDS"})
+    InputShape shape;
+
+    private final AlgorithmServiceImpl service = new AlgorithmServiceImpl();
+
+    private ReverseStringRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new ReverseStringRequest(shape.text(size));
+    }
+
+    @Benchmark
+    public Object reverse() {
+        return service.reverse(request);
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.com.algosapi.algorithm;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * twoSum: 기존 HashMap<Integer, Integer> 구현 vs IntIntMap vs 정렬 입력 투 포인터
+ * - 해가 배열 끝에 있도록 만들어 전체 입력을 훑는 최악의 경우를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TwoSumBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    InputShape shape;
+
+    private final AlgorithmServiceImpl service = new AlgorithmServiceImpl();
+
+    private TwoSumRequest randomRequest;
+    private TwoSumRequest sortedRequest;
+
+    @Setup
+    public void setUp() {
+        int[] numbers = shape.ints(size);
+        for (int i = 0; i < size; i++) {
+            numbers[i] &= Integer.MAX_VALUE >>> 1;
+        }
+        // 음수는 마지막 두 원소뿐이라 target 을 만드는 쌍이 하나로 고정된다
+        numbers[size - 2] = -3;
+        numbers[size - 1] = -4;
+        randomRequest = new TwoSumRequest(numbers, -7);
+
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i * 2;
+        }
+        sortedRequest = new TwoSumRequest(sorted, sorted[size - 2] + sorted[size - 1], true);
+    }
+
+    @Benchmark
+    public int boxedHashMap() {
+        int[] nums = randomRequest.getNumbers();
+        int target = randomRequest.getTarget();
+        Map<Integer, Integer> indexByValue = new HashMap<>();
+        for (int i = 0; i < nums.length; i++) {
+            Integer j = indexByValue.get(target - nums[i]);
+            if (j != null) {
+                return j;
+            }
+            indexByValue.put(nums[i], i);
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int primitiveMap() {
+        return service.twoSum(randomRequest).getIndex1();
+    }
+
+    @Benchmark
+    public int sortedTwoPointer() {
+        return service.twoSum(sortedRequest).getIndex1();
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.com.algosapi.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** uniqueSort: 기존 IntStream distinct().sorted() vs UniqueIntSorter */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UniqueSortBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "DUPLICATES"})
+    InputShape shape;
+
+    private final AlgorithmServiceImpl service = new AlgorithmServiceImpl();
+
+    private UniqueSortRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new UniqueSortRequest(shape.ints(size));
+    }
+
+    @Benchmark
+    public int[] stream() {
+        return Arrays.stream(request.getNumbers()).distinct().sorted().toArray();
+    }
+
+    @Benchmark
+    public int[] engine() {
+        return service.uniqueSort(request).getNumbers();
+    }
+
+}
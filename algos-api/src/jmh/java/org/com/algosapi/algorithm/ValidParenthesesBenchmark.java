@@ -0,0 +1,41 @@
+package org.com.algosapi.algorithm;
+
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** validParentheses - SORTED 는 입력 절반 깊이까지 중첩된 최악의 경우 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ValidParenthesesBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED"})
+    InputShape shape;
+
+    private final AlgorithmServiceImpl service = new AlgorithmServiceImpl();
+
+    private ValidParenthesesRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new ValidParenthesesRequest(shape.brackets(size));
+    }
+
+    @Benchmark
+    public boolean validParentheses() {
+        return service.validParentheses(request).isValid();
+    }
+
+}
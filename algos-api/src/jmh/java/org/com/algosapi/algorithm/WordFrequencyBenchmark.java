@@ -0,0 +1,84 @@
+package org.com.algosapi.algorithm;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * wordFrequency 엔진별 비교
+ * - sequential: 병렬 임계값을 넘지 않도록 고정
+ * - parallel: 임계값 1 로 항상 ForkJoin 엔진 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WordFrequencyBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "DUPLICATES", "LONG_WORDS"})
+    InputShape shape;
+
+    private AlgorithmServiceImpl sequential;
+    private AlgorithmServiceImpl parallel;
+
+    private WordFrequencyRequest request;
+    private WordFrequencyRequest top20;
+    private WordFrequencyRequest approximateTop20;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        AlgorithmProperties sequentialProperties = new AlgorithmProperties();
+        sequentialProperties.getWordFrequency().setParallelThreshold(Integer.MAX_VALUE);
+        sequential = new AlgorithmServiceImpl(sequentialProperties);
+
+        AlgorithmProperties parallelProperties = new AlgorithmProperties();
+        parallelProperties.getWordFrequency().setParallelThreshold(1);
+        parallel = new AlgorithmServiceImpl(parallelProperties);
+
+        String text = shape.text(size);
+        request = new WordFrequencyRequest(text);
+        top20 = new WordFrequencyRequest(text, 20, false);
+        approximateTop20 = new WordFrequencyRequest(text, 20, true);
+        body = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object sequential() {
+        return sequential.wordFrequency(request);
+    }
+
+    @Benchmark
+    public Object parallel() {
+        return parallel.wordFrequency(request);
+    }
+
+    @Benchmark
+    public Object stream() {
+        return sequential.wordFrequencyStream(new ByteArrayInputStream(body), null);
+    }
+
+    @Benchmark
+    public Object topK() {
+        return sequential.wordFrequency(top20);
+    }
+
+    @Benchmark
+    public Object approximateTopK() {
+        return sequential.wordFrequency(approximateTop20);
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.com.algosapi.algorithm.bracket;
+
+import java.util.Arrays;
+import org.com.algosapi.common.concurrent.Cancellation;
+
+/**
+ * 괄호 짝 검사기 (괄호 쌍은 "()[]{}" 처럼 여는/닫는 문자를 번갈아 나열한 문자열로 지정)
+ * - String 을 복사하지 않고 charAt 으로 읽으며, 스택은 쌍 번호를 담는 byte[] 로 필요할 때만 늘린다.
+ * - 남은 문자 수로 현재 깊이를 다 닫을 수 없으면 그 자리에서 멈춘다.
+ * - 괄호가 아닌 문자는 무시한다.
+ */
+public final class BracketMatcher {
+
+    public static final String DEFAULT_PAIRS = "()[]{}";
+    public static final int MAX_PAIRS = 127;
+
+    private static final BracketMatcher DEFAULT = new BracketMatcher(DEFAULT_PAIRS);
+
+    // ASCII 문자 → 여는 괄호면 +(쌍 번호 + 1), 닫는 괄호면 -(쌍 번호 + 1), 아니면 0
+    private final byte[] ascii = new byte[128];
+    private final String pairs;
+
+    private BracketMatcher(String pairs) {
+        this.pairs = pairs;
+        for (int i = 0; i < pairs.length(); i += 2) {
+            char open = pairs.charAt(i);
+            char close = pairs.charAt(i + 1);
+            if (open < 128) {
+                ascii[open] = (byte) (i / 2 + 1);
+            }
+            if (close < 128) {
+                ascii[close] = (byte) -(i / 2 + 1);
+            }
+        }
+    }
+
+    /** pairs 가 null 이면 기본 쌍, 형식이 잘못되면 IllegalArgumentException */
+    public static BracketMatcher of(String pairs) {
+        if (pairs == null || pairs.equals(DEFAULT_PAIRS)) {
+            return DEFAULT;
+        }
+        if (pairs.isEmpty() || (pairs.length() & 1) != 0) {
+            throw new IllegalArgumentException("pairs must list open/close characters in pairs");
+        }
+        if (pairs.length() / 2 > MAX_PAIRS) {
+            throw new IllegalArgumentException("at most " + MAX_PAIRS + " pairs are supported");
+        }
+        char[] sorted = pairs.toCharArray();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("pairs must not repeat a character: " + sorted[i]);
+            }
+        }
+        return new BracketMatcher(pairs);
+    }
+
+    public String getPairs() {
+        return pairs;
+    }
+
+    public Result match(CharSequence text) {
+        int n = text.length();
+        byte[] stack = new byte[Math.min(16, (n >>> 1) + 1)];
+        int depth = 0;
+        int maxDepth = 0;
+
+        for (int i = 0; i < n; i++) {
+            Cancellation.checkEvery(i);
+            int kind = classify(text.charAt(i));
+            if (kind > 0) {
+                // 남은 문자를 모두 닫는 괄호로 써도 못 닫음
+                if (depth >= n - i) {
+                    return new Result(i, Math.max(maxDepth, depth + 1));
+                }
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, Math.min(stack.length << 1, (n >>> 1) + 1));
+                }
+                stack[depth++] = (byte) kind;
+                if (depth > maxDepth) {
+                    maxDepth = depth;
+                }
+            } else if (kind < 0) {
+                if (depth == 0 || stack[--depth] != -kind) {
+                    return new Result(i, maxDepth);
+                }
+            }
+        }
+        return new Result(depth == 0 ? -1 : n, maxDepth);
+    }
+
+    private int classify(char c) {
+        if (c < 128) {
+            return ascii[c];
+        }
+        int index = pairs.indexOf(c);
+        if (index < 0) {
+            return 0;
+        }
+        return (index & 1) == 0 ? (index >>> 1) + 1 : -((index >>> 1) + 1);
+    }
+
+    /** mismatchIndex: 유효하면 -1, 아니면 유효하지 않다고 확정된 위치 (끝까지 닫히지 않으면 문자열 길이) */
+    public static final class Result {
+
+        private final int mismatchIndex;
+        private final int maxDepth;
+
+        Result(int mismatchIndex, int maxDepth) {
+            this.mismatchIndex = mismatchIndex;
+            this.maxDepth = maxDepth;
+        }
+
+        public boolean isValid() {
+            return mismatchIndex < 0;
+        }
+
+        public int getMismatchIndex() {
+            return mismatchIndex;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.com.algosapi.algorithm.cache;
+
+import java.util.Objects;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+
+/** 연산 + 입력 128비트 해시 - 입력 원본은 들고 있지 않는다 */
+public final class CacheKey {
+
+    private final AlgorithmOperation op;
+    private final long h1;
+    private final long h2;
+
+    private CacheKey(AlgorithmOperation op, long h1, long h2) {
+        this.op = op;
+        this.h1 = h1;
+        this.h2 = h2;
+    }
+
+    public static CacheKey of(AlgorithmOperation op, Hash128 hash) {
+        long[] h = hash.finish();
+        return new CacheKey(op, h[0], h[1]);
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheKey)) {
+            return false;
+        }
+        CacheKey other = (CacheKey) o;
+        return op == other.op && h1 == other.h1 && h2 == other.h2;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(op, h1, h2);
+    }
+
+}
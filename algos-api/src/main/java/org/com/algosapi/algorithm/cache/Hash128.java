@@ -0,0 +1,128 @@
+package org.com.algosapi.algorithm.cache;
+
+/**
+ * 128비트 비암호화 해시 (MurmurHash3 x64_128 의 블록 믹싱/finalizer 사용)
+ * - 입력을 byte[] 로 복사하지 않고 long 단위로 바로 흘려 넣는다.
+ *   (char 4개, int 2개를 long 하나로 묶음)
+ * - 배열/문자열은 길이를 먼저 넣어 필드 경계가 섞이지 않게 한다.
+ */
+public final class Hash128 {
+
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    private long h1;
+    private long h2;
+    private long pending;
+    private boolean hasPending;
+    private long length;
+
+    public Hash128(long seed) {
+        this.h1 = seed;
+        this.h2 = seed;
+    }
+
+    public Hash128 putLong(long value) {
+        if (hasPending) {
+            mix(pending, value);
+            hasPending = false;
+        } else {
+            pending = value;
+            hasPending = true;
+        }
+        length += 8;
+        return this;
+    }
+
+    public Hash128 putInt(int value) {
+        return putLong(value);
+    }
+
+    public Hash128 putBoolean(boolean value) {
+        return putLong(value ? 1 : 0);
+    }
+
+    public Hash128 putNullableInt(Integer value) {
+        return value == null ? putLong(Long.MIN_VALUE) : putLong(value);
+    }
+
+    public Hash128 putInts(int[] values) {
+        int n = values.length;
+        putLong(n);
+        int i = 0;
+        for (; i + 1 < n; i += 2) {
+            putLong(((long) values[i] << 32) | (values[i + 1] & 0xFFFFFFFFL));
+        }
+        if (i < n) {
+            putLong(values[i]);
+        }
+        return this;
+    }
+
+    public Hash128 putChars(CharSequence text) {
+        int n = text.length();
+        putLong(n);
+        int i = 0;
+        for (; i + 3 < n; i += 4) {
+            putLong((long) text.charAt(i) << 48
+                | (long) text.charAt(i + 1) << 32
+                | (long) text.charAt(i + 2) << 16
+                | text.charAt(i + 3));
+        }
+        long tail = 0;
+        for (; i < n; i++) {
+            tail = tail << 16 | text.charAt(i);
+        }
+        if ((n & 3) != 0) {
+            putLong(tail);
+        }
+        return this;
+    }
+
+    /** 해시 결과 [h1, h2] - 호출 후 이 객체는 더 쓰지 않는다 */
+    public long[] finish() {
+        if (hasPending) {
+            long k1 = pending * C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private void mix(long k1, long k2) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52DCE729;
+
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495AB5;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
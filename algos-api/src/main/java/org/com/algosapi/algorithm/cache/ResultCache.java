@@ -0,0 +1,86 @@
+package org.com.algosapi.algorithm.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.response.CacheStatsResponse;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알고리즘 결과 캐시 (Caffeine, W-TinyLFU)
+ * - 총 가중치(추정 바이트) 기준으로 제한하고, maxEntryWeight 를 넘는 결과는 저장하지 않는다.
+ * - 연산별로 algorithm.cache.operations 에 포함된 경우에만 캐시한다.
+ */
+@Component
+public class ResultCache {
+
+    private final boolean enabled;
+    private final Set<AlgorithmOperation> operations;
+    private final long maxEntryWeight;
+    private final Cache<CacheKey, Entry> cache;
+
+    public ResultCache(AlgorithmProperties properties) {
+        var config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.operations = config.getOperations();
+        this.maxEntryWeight = config.getMaxEntryWeight();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(config.getMaximumWeight())
+            .weigher((CacheKey key, Entry entry) -> entry.weight)
+            .recordStats()
+            .build();
+    }
+
+    public boolean isEnabled(AlgorithmOperation op) {
+        return enabled && operations.contains(op);
+    }
+
+    /** 캐시에 있으면 반환하고, 없으면 계산 후 가중치가 허용 범위일 때만 저장 */
+    @SuppressWarnings("unchecked")
+    public <T> T get(CacheKey key, Supplier<T> compute, ToIntFunction<T> weigher) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached.value;
+        }
+
+        T value = compute.get();
+        int weight = weigher.applyAsInt(value);
+        if (weight <= maxEntryWeight) {
+            cache.put(key, new Entry(value, weight));
+        }
+        return value;
+    }
+
+    public Cache<CacheKey, ?> getNativeCache() {
+        return cache;
+    }
+
+    public CacheStatsResponse stats() {
+        var stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+        return new CacheStatsResponse(
+            stats.hitCount(), stats.missCount(), stats.hitRate(),
+            stats.evictionCount(), stats.evictionWeight(),
+            cache.estimatedSize(), weightedSize
+        );
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final int weight;
+
+        private Entry(Object value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+}
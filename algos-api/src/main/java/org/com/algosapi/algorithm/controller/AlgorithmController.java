@@ -1,23 +1,37 @@
 package org.com.algosapi.algorithm.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.com.algosapi.algorithm.dto.request.BatchRequest;
 import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
 import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
 import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
 import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
 import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.dto.response.BatchResponse;
+import org.com.algosapi.algorithm.dto.response.CacheStatsResponse;
 import org.com.algosapi.algorithm.dto.response.ReverseStringResponse;
 import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
 import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
 import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
 import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
 import org.com.algosapi.algorithm.service.AlgorithmService;
+import org.com.algosapi.algorithm.service.BatchService;
 import org.com.algosapi.common.api.ApiResponse;
+import org.com.algosapi.common.codec.NdjsonWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,30 +39,101 @@ import org.springframework.web.bind.annotation.RestController;
 public class AlgorithmController {
 
     private final AlgorithmService algorithmService;
+    private final BatchService batchService;
+    private final ResultCache resultCache;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping("/reverse")
     public ApiResponse<ReverseStringResponse> reverse(@Valid @RequestBody ReverseStringRequest req) {
         return ApiResponse.ok(algorithmService.reverse(req));
     }
 
+    // 본문(UTF-8)을 블록 단위로 문자소 기준 뒤집어 text/plain 으로 바로 쓴다 - 큰 입력은 임시 파일 사용
+    @PostMapping(value = "/reverse/stream",
+        consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public void reverseStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain;charset=UTF-8");
+        algorithmService.reverseStream(body, response.getOutputStream());
+    }
+
     @PostMapping("/word-frequency")
     public ApiResponse<WordFrequencyResponse> wordFrequency(@Valid @RequestBody WordFrequencyRequest req) {
         return ApiResponse.ok(algorithmService.wordFrequency(req));
     }
 
+    @PostMapping(value = "/word-frequency", produces = NdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> wordFrequencyNdjson(@Valid @RequestBody WordFrequencyRequest req) {
+        WordFrequencyResponse res = algorithmService.wordFrequency(req);
+        return ResponseEntity.ok()
+            .contentType(NdjsonWriter.APPLICATION_NDJSON)
+            .body(ndjsonWriter.wordCounts(res));
+    }
+
+    @PostMapping(value = "/word-frequency/stream",
+        consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ApiResponse<WordFrequencyResponse> wordFrequencyStream(
+        InputStream body, @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(algorithmService.wordFrequencyStream(body, limit));
+    }
+
     @PostMapping("/two-sum")
     public ApiResponse<TwoSumResponse> twoSum(@Valid @RequestBody TwoSumRequest req) {
         return ApiResponse.ok(algorithmService.twoSum(req));
     }
 
+    // 본문 = little-endian int32 배열, target/sorted 는 쿼리 파라미터
+    @PostMapping(value = "/two-sum", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResponse<TwoSumResponse> twoSumBinary(@RequestBody int[] numbers,
+        @RequestParam int target, @RequestParam(defaultValue = "false") boolean sorted) {
+        return ApiResponse.ok(algorithmService.twoSum(new TwoSumRequest(numbers, target, sorted)));
+    }
+
+    // 응답 = [index1, index2] (little-endian int32)
+    @PostMapping(value = "/two-sum",
+        consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public int[] twoSumBinaryRaw(@RequestBody int[] numbers,
+        @RequestParam int target, @RequestParam(defaultValue = "false") boolean sorted) {
+        TwoSumResponse res = algorithmService.twoSum(new TwoSumRequest(numbers, target, sorted));
+        return new int[]{res.getIndex1(), res.getIndex2()};
+    }
+
     @PostMapping("/unique-sort")
     public ApiResponse<UniqueSortResponse> uniqueSort(@Valid @RequestBody UniqueSortRequest req) {
         return ApiResponse.ok(algorithmService.uniqueSort(req));
     }
 
+    @PostMapping(value = "/unique-sort", produces = NdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> uniqueSortNdjson(@Valid @RequestBody UniqueSortRequest req) {
+        UniqueSortResponse res = algorithmService.uniqueSort(req);
+        return ResponseEntity.ok()
+            .contentType(NdjsonWriter.APPLICATION_NDJSON)
+            .body(ndjsonWriter.ints(res.getNumbers()));
+    }
+
+    @PostMapping(value = "/unique-sort", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResponse<UniqueSortResponse> uniqueSortBinary(@RequestBody int[] numbers) {
+        return ApiResponse.ok(algorithmService.uniqueSort(new UniqueSortRequest(numbers)));
+    }
+
+    @PostMapping(value = "/unique-sort",
+        consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public int[] uniqueSortBinaryRaw(@RequestBody int[] numbers) {
+        return algorithmService.uniqueSort(new UniqueSortRequest(numbers)).getNumbers();
+    }
+
     @PostMapping("/valid-parentheses")
     public ApiResponse<ValidParenthesesResponse> validParentheses(@Valid @RequestBody ValidParenthesesRequest req) {
         return ApiResponse.ok(algorithmService.validParentheses(req));
     }
 
+    @PostMapping("/batch")
+    public ApiResponse<BatchResponse> batch(@Valid @RequestBody BatchRequest req) {
+        return ApiResponse.ok(batchService.execute(req));
+    }
+
+    @GetMapping("/cache/stats")
+    public ApiResponse<CacheStatsResponse> cacheStats() {
+        return ApiResponse.ok(resultCache.stats());
+    }
+
 }
@@ -0,0 +1,33 @@
+package org.com.algosapi.algorithm.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** 배치에서 실행할 수 있는 연산 - JSON 값은 단건 API 경로와 같다 */
+public enum AlgorithmOperation {
+
+    @JsonProperty("reverse")
+    REVERSE(ReverseStringRequest.class),
+
+    @JsonProperty("word-frequency")
+    WORD_FREQUENCY(WordFrequencyRequest.class),
+
+    @JsonProperty("two-sum")
+    TWO_SUM(TwoSumRequest.class),
+
+    @JsonProperty("unique-sort")
+    UNIQUE_SORT(UniqueSortRequest.class),
+
+    @JsonProperty("valid-parentheses")
+    VALID_PARENTHESES(ValidParenthesesRequest.class);
+
+    private final Class<?> requestType;
+
+    AlgorithmOperation(Class<?> requestType) {
+        this.requestType = requestType;
+    }
+
+    public Class<?> getRequestType() {
+        return requestType;
+    }
+
+}
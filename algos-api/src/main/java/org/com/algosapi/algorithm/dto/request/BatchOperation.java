@@ -0,0 +1,30 @@
+package org.com.algosapi.algorithm.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+
+public class BatchOperation {
+
+    @NotNull(message = "op must not be null")
+    private AlgorithmOperation op;
+
+    // 단건 API 의 요청 본문과 같은 형태
+    @NotNull(message = "payload must not be null")
+    private JsonNode payload;
+
+    public BatchOperation() {}
+
+    public BatchOperation(AlgorithmOperation op, JsonNode payload) {
+        this.op = op;
+        this.payload = payload;
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.com.algosapi.algorithm.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public class BatchRequest {
+
+    @NotEmpty(message = "operations must not be empty")
+    private List<@Valid BatchOperation> operations;
+
+    public BatchRequest() {}
+
+    public BatchRequest(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+}
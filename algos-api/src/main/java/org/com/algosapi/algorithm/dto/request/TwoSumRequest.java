@@ -10,6 +10,9 @@ public class TwoSumRequest {
     @NotNull
     private Integer target;
 
+    // 오름차순 입력이면 투 포인터 사용 (해가 여러 개일 때 반환 쌍이 달라질 수 있음)
+    private boolean sorted;
+
     public TwoSumRequest() {}
 
     public TwoSumRequest(int[] numbers, Integer target) {
@@ -17,6 +20,12 @@ public class TwoSumRequest {
         this.target = target;
     }
 
+    public TwoSumRequest(int[] numbers, Integer target, boolean sorted) {
+        this.numbers = numbers;
+        this.target = target;
+        this.sorted = sorted;
+    }
+
     public int[] getNumbers() {
         return numbers;
     }
@@ -25,4 +34,8 @@ public class TwoSumRequest {
         return target;
     }
 
+    public boolean isSorted() {
+        return sorted;
+    }
+
 }
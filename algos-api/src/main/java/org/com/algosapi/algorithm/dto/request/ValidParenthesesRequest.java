@@ -7,14 +7,26 @@ public class ValidParenthesesRequest {
     @NotBlank
     private String str;
 
+    // 여는/닫는 문자를 번갈아 나열한 괄호 쌍 (예: "()<>"), null 이면 "()[]{}"
+    private String pairs;
+
     public ValidParenthesesRequest() {}
 
     public ValidParenthesesRequest(String str) {
         this.str = str;
     }
 
+    public ValidParenthesesRequest(String str, String pairs) {
+        this.str = str;
+        this.pairs = pairs;
+    }
+
     public String getStr() {
         return str;
     }
 
+    public String getPairs() {
+        return pairs;
+    }
+
 }
@@ -1,12 +1,20 @@
 package org.com.algosapi.algorithm.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 public class WordFrequencyRequest {
 
     @NotBlank(message = "text must not be blank")
     private String text;
 
+    // 상위 limit 개만 반환 (null 이면 전체)
+    @Positive(message = "limit must be positive")
+    private Integer limit;
+
+    // Count-Min Sketch 기반 근사 top-K (limit 필수)
+    private boolean approximate;
+
     public WordFrequencyRequest() {
 
     }
@@ -15,8 +23,22 @@ public class WordFrequencyRequest {
         this.text = text;
     }
 
+    public WordFrequencyRequest(String text, Integer limit, boolean approximate) {
+        this.text = text;
+        this.limit = limit;
+        this.approximate = approximate;
+    }
+
     public String getText() {
         return text;
     }
 
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
 }
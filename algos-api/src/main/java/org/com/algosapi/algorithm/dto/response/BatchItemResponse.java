@@ -0,0 +1,55 @@
+package org.com.algosapi.algorithm.dto.response;
+
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+
+public class BatchItemResponse {
+
+    private final int index;
+    private final AlgorithmOperation op;
+    private final int status;           // 단건 API 였다면 받았을 HTTP 상태 코드
+    private final boolean success;
+    private final String message;
+    private final Object data;
+
+    private BatchItemResponse(int index, AlgorithmOperation op, int status, boolean success, String message, Object data) {
+        this.index = index;
+        this.op = op;
+        this.status = status;
+        this.success = success;
+        this.message = message;
+        this.data = data;
+    }
+
+    public static BatchItemResponse ok(int index, AlgorithmOperation op, Object data) {
+        return new BatchItemResponse(index, op, 200, true, "OK", data);
+    }
+
+    public static BatchItemResponse fail(int index, AlgorithmOperation op, int status, String message) {
+        return new BatchItemResponse(index, op, status, false, message, null);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+}
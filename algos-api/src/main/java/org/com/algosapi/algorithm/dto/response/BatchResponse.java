@@ -0,0 +1,29 @@
+package org.com.algosapi.algorithm.dto.response;
+
+import java.util.List;
+
+public class BatchResponse {
+
+    private final List<BatchItemResponse> results;
+    private final int succeeded;
+    private final int failed;
+
+    public BatchResponse(List<BatchItemResponse> results) {
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(BatchItemResponse::isSuccess).count();
+        this.failed = results.size() - succeeded;
+    }
+
+    public List<BatchItemResponse> getResults() {
+        return results;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+}
@@ -3,13 +3,29 @@ package org.com.algosapi.algorithm.dto.response;
 public class ValidParenthesesResponse {
 
     private final boolean valid;
+    private final int mismatchIndex;    // 유효하면 -1, 끝까지 닫히지 않으면 str 길이
+    private final int maxDepth;         // 판정 시점까지의 최대 중첩 깊이
 
     public ValidParenthesesResponse(boolean valid) {
+        this(valid, -1, 0);
+    }
+
+    public ValidParenthesesResponse(boolean valid, int mismatchIndex, int maxDepth) {
         this.valid = valid;
+        this.mismatchIndex = mismatchIndex;
+        this.maxDepth = maxDepth;
     }
 
     public boolean isValid() {
         return valid;
     }
 
+    public int getMismatchIndex() {
+        return mismatchIndex;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
 }
@@ -1,18 +1,71 @@
 package org.com.algosapi.algorithm.dto.response;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.algorithm.wordcount.RankedWordCounts;
+import org.com.algosapi.algorithm.wordcount.WordCountEngine;
+import org.com.algosapi.algorithm.wordcount.WordCountTable;
 
+/**
+ * 단어 빈도 결과
+ * - 정확한 엔진은 집계 테이블 뷰(RankedWordCounts)를 넘기고, WordCount 목록은 JSON 직렬화 등에서 처음 요청될 때 만든다.
+ * - NDJSON 응답은 forEachFrequency 로 목록 없이 테이블에서 바로 쓴다.
+ */
 public class WordFrequencyResponse {
 
-    private final List<WordCount> frequencies;
+    private final RankedWordCounts ranked;
+    private final WordCountEngine engine;
+    private volatile List<WordCount> frequencies;
 
     public WordFrequencyResponse(List<WordCount> frequencies) {
+        this(frequencies, WordCountEngine.SEQUENTIAL);
+    }
+
+    public WordFrequencyResponse(List<WordCount> frequencies, WordCountEngine engine) {
+        this.ranked = null;
         this.frequencies = frequencies;
+        this.engine = engine;
+    }
+
+    public WordFrequencyResponse(RankedWordCounts ranked, WordCountEngine engine) {
+        this.ranked = ranked;
+        this.engine = engine;
     }
 
     public List<WordCount> getFrequencies() {
-        return frequencies;
+        List<WordCount> list = frequencies;
+        if (list == null) {
+            list = ranked.toWordCounts();
+            frequencies = list;
+        }
+        return list;
+    }
+
+    public WordCountEngine getEngine() {
+        return engine;
+    }
+
+    /** 테이블 뷰가 있으면 null 이 아니다 */
+    public RankedWordCounts ranked() {
+        return ranked;
+    }
+
+    public int size() {
+        return ranked != null ? ranked.size() : frequencies.size();
+    }
+
+    /** 순위 순으로 방문 - 테이블 뷰면 WordCount 목록을 만들지 않는다 */
+    public void forEachFrequency(WordCountTable.EntryVisitor visitor) throws IOException {
+        if (ranked != null) {
+            ranked.forEach(visitor);
+            return;
+        }
+        for (WordCount wc : frequencies) {
+            byte[] word = wc.getWord().getBytes(StandardCharsets.UTF_8);
+            visitor.visit(word, 0, word.length, wc.getCount());
+        }
     }
 
 }
@@ -0,0 +1,84 @@
+package org.com.algosapi.algorithm.reverse;
+
+import java.text.CharacterIterator;
+
+/** char[] 앞부분 [0, length) 를 복사 없이 BreakIterator 에 넘기기 위한 CharacterIterator */
+final class CharArrayIterator implements CharacterIterator {
+
+    private char[] chars;
+    private int length;
+    private int index;
+
+    void reset(char[] chars, int length) {
+        this.chars = chars;
+        this.length = length;
+        this.index = 0;
+    }
+
+    @Override
+    public char first() {
+        index = 0;
+        return current();
+    }
+
+    @Override
+    public char last() {
+        index = length == 0 ? 0 : length - 1;
+        return current();
+    }
+
+    @Override
+    public char current() {
+        return index < length ? chars[index] : DONE;
+    }
+
+    @Override
+    public char next() {
+        if (index < length) {
+            index++;
+        }
+        return current();
+    }
+
+    @Override
+    public char previous() {
+        if (index == 0) {
+            return DONE;
+        }
+        index--;
+        return current();
+    }
+
+    @Override
+    public char setIndex(int position) {
+        if (position < 0 || position > length) {
+            throw new IllegalArgumentException("Invalid index: " + position);
+        }
+        index = position;
+        return current();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return length;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public Object clone() {
+        CharArrayIterator copy = new CharArrayIterator();
+        copy.reset(chars, length);
+        copy.index = index;
+        return copy;
+    }
+
+}
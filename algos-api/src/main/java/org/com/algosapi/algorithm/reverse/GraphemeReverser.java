@@ -0,0 +1,178 @@
+package org.com.algosapi.algorithm.reverse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.BreakIterator;
+import java.util.Arrays;
+import java.util.Locale;
+import org.com.algosapi.common.concurrent.Cancellation;
+
+/**
+ * 문자소(grapheme cluster) 단위 문자열 뒤집기
+ * - 서로게이트 쌍, 결합 문자, 이모지 ZWJ 시퀀스, 국기처럼 여러 char 로 된 문자를 깨지 않는다.
+ * - 스트림 입력은 blockSize 글자 블록 단위로 뒤집고, 블록이 둘 이상이면 임시 파일에 쌓았다가 역순으로 내보낸다.
+ *   (메모리는 입력 크기와 무관하게 블록 몇 개 분량)
+ * - 블록 끝의 마지막 문자소는 다음 블록에서 이어질 수 있으므로 다음 블록으로 넘긴다.
+ *   한 문자소가 블록 전체보다 길면 (서로게이트 쌍은 지키면서) 블록 경계에서 자른다.
+ */
+public final class GraphemeReverser {
+
+    private final int blockSize;
+    private final Path spillDir;        // null 이면 시스템 임시 디렉터리
+
+    public GraphemeReverser(int blockSize, Path spillDir) {
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("blockSize must be at least 2");
+        }
+        this.blockSize = blockSize;
+        this.spillDir = spillDir;
+    }
+
+    public static String reverse(String text) {
+        char[] out = new char[text.length()];
+        BreakIterator clusters = BreakIterator.getCharacterInstance(Locale.ROOT);
+        clusters.setText(text);
+        int start = clusters.first();
+        int count = 0;
+        for (int end = clusters.next(); end != BreakIterator.DONE; start = end, end = clusters.next()) {
+            Cancellation.checkEvery(count++);
+            text.getChars(start, end, out, out.length - end);
+        }
+        return new String(out);
+    }
+
+    /** in 을 끝까지 읽어 뒤집은 결과를 out 에 쓰고, 읽은 글자 수를 반환 */
+    public long reverse(Reader in, Writer out) throws IOException {
+        char[] block = new char[blockSize];
+        char[] reversed = new char[blockSize];
+        CharArrayIterator text = new CharArrayIterator();
+        BreakIterator clusters = BreakIterator.getCharacterInstance(Locale.ROOT);
+
+        Spill spill = null;
+        long total = 0;
+        int filled = 0;     // 앞 블록에서 넘어온 글자 포함
+        try {
+            while (true) {
+                int read = fill(in, block, filled);
+                total += read;
+                filled += read;
+
+                text.reset(block, filled);
+                clusters.setText(text);
+                if (filled < blockSize) {       // 입력 끝 - 마지막 블록이 출력의 맨 앞
+                    reverseClusters(block, filled, clusters, reversed);
+                    out.write(reversed, 0, filled);
+                    if (spill != null) {
+                        spill.writeBackwards(out, reversed);
+                    }
+                    out.flush();
+                    return total;
+                }
+
+                int cut = clusters.preceding(filled);
+                if (cut <= 0) {
+                    cut = Character.isHighSurrogate(block[filled - 1]) ? filled - 1 : filled;
+                }
+                reverseClusters(block, cut, clusters, reversed);
+                if (spill == null) {
+                    Path file = spillDir == null
+                        ? Files.createTempFile("reverse-", ".spill")
+                        : Files.createTempFile(spillDir, "reverse-", ".spill");
+                    spill = new Spill(file, blockSize);
+                }
+                spill.append(reversed, cut);
+
+                filled -= cut;
+                System.arraycopy(block, cut, block, 0, filled);
+            }
+        } finally {
+            if (spill != null) {
+                spill.close();
+            }
+        }
+    }
+
+    // block[0, cut) 의 문자소를 reversed[0, cut) 에 역순으로 복사
+    private static void reverseClusters(char[] block, int cut, BreakIterator clusters, char[] reversed) {
+        int start = clusters.first();
+        for (int end = clusters.next(); start < cut; start = end, end = clusters.next()) {
+            if (end == BreakIterator.DONE || end > cut) {
+                end = cut;
+            }
+            System.arraycopy(block, start, reversed, cut - end, end - start);
+        }
+    }
+
+    // block 이 가득 차거나 입력이 끝날 때까지 읽는다
+    private static int fill(Reader in, char[] block, int from) throws IOException {
+        int pos = from;
+        while (pos < block.length) {
+            int read = in.read(block, pos, block.length - pos);
+            if (read == -1) {
+                break;
+            }
+            pos += read;
+        }
+        return pos - from;
+    }
+
+    /** 뒤집은 블록을 UTF-16 그대로 이어 쓰는 임시 파일 - 닫으면 삭제 */
+    private static final class Spill implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int[] lengths = new int[16];
+        private int blocks;
+        private long size;
+
+        Spill(Path file, int blockSize) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+            this.buffer = ByteBuffer.allocate(blockSize * 2);
+        }
+
+        void append(char[] chars, int length) throws IOException {
+            buffer.clear();
+            buffer.asCharBuffer().put(chars, 0, length);
+            buffer.limit(length * 2);
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+            if (blocks == lengths.length) {
+                lengths = Arrays.copyOf(lengths, blocks << 1);
+            }
+            lengths[blocks++] = length;
+        }
+
+        void writeBackwards(Writer out, char[] scratch) throws IOException {
+            long position = size;
+            for (int i = blocks - 1; i >= 0; i--) {
+                int length = lengths[i];
+                position -= length * 2L;
+                buffer.clear();
+                buffer.limit(length * 2);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Spill file truncated");
+                    }
+                }
+                buffer.flip();
+                buffer.asCharBuffer().get(scratch, 0, length);
+                out.write(scratch, 0, length);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.com.algosapi.algorithm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.common.concurrent.SequentialScope;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * {op, payload} 형태의 연산을 요청 DTO 로 바인딩/검증한 뒤 AlgorithmService 로 실행 (배치, 비동기 작업 공용)
+ * - 바인딩/검증 실패는 INVALID_ARGUMENT DomainException 으로 던진다.
+ */
+@Component
+public class AlgorithmOperationRunner {
+
+    private final AlgorithmService algorithmService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public AlgorithmOperationRunner(AlgorithmService algorithmService, ObjectMapper objectMapper, Validator validator) {
+        this.algorithmService = algorithmService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public Object run(AlgorithmOperation op, JsonNode payload) {
+        return dispatch(op, bind(op, payload));
+    }
+
+    public Object bind(AlgorithmOperation op, JsonNode payload) {
+        Object request;
+        try {
+            request = objectMapper.treeToValue(payload, op.getRequestType());
+        } catch (JsonProcessingException e) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "Validation failed: " + e.getOriginalMessage());
+        }
+        if (request == null) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "Validation failed: payload must not be null");
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "Validation failed: " + describe(violations));
+        }
+        return request;
+    }
+
+    public Object dispatch(AlgorithmOperation op, Object request) {
+        return switch (op) {
+            case REVERSE -> algorithmService.reverse((ReverseStringRequest) request);
+            case WORD_FREQUENCY -> algorithmService.wordFrequency((WordFrequencyRequest) request);
+            case TWO_SUM -> algorithmService.twoSum((TwoSumRequest) request);
+            case UNIQUE_SORT -> algorithmService.uniqueSort((UniqueSortRequest) request);
+            case VALID_PARENTHESES -> algorithmService.validParentheses((ValidParenthesesRequest) request);
+        };
+    }
+
+    /** 병렬 엔진을 쓰지 않고 호출 스레드에서만 실행 - 스레드 CPU 시간으로 예산을 재는 비동기 작업용 */
+    public Object dispatchSequential(AlgorithmOperation op, Object request) {
+        return SequentialScope.call(() -> dispatch(op, request));
+    }
+
+    private String describe(Set<ConstraintViolation<Object>> violations) {
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + " " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+}
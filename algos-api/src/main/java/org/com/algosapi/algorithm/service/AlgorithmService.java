@@ -1,5 +1,7 @@
 package org.com.algosapi.algorithm.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
 import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
 import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
@@ -17,9 +19,16 @@ public interface AlgorithmService {
     @Transactional(readOnly = true)
     ReverseStringResponse reverse(ReverseStringRequest request);
 
+    /** UTF-8 입력을 문자소 단위로 뒤집어 output 에 UTF-8 로 쓰고, 읽은 글자(char) 수를 반환 */
+    @Transactional(readOnly = true)
+    long reverseStream(InputStream input, OutputStream output);
+
     @Transactional(readOnly = true)
     WordFrequencyResponse wordFrequency(WordFrequencyRequest request);
 
+    @Transactional(readOnly = true)
+    WordFrequencyResponse wordFrequencyStream(InputStream input, Integer limit);
+
     @Transactional(readOnly = true)
     TwoSumResponse twoSum(TwoSumRequest request);
 
@@ -1,16 +1,15 @@
 package org.com.algosapi.algorithm.service;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import org.com.algosapi.algorithm.bracket.BracketMatcher;
+import org.com.algosapi.algorithm.collection.IntIntMap;
 import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
 import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
 import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
@@ -21,50 +20,143 @@ import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
 import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
 import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
 import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
-import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.algorithm.reverse.GraphemeReverser;
+import org.com.algosapi.algorithm.sort.UniqueIntSorter;
+import org.com.algosapi.algorithm.wordcount.HeavyHitters;
+import org.com.algosapi.algorithm.wordcount.ParallelWordCounter;
+import org.com.algosapi.algorithm.wordcount.RankedWordCounts;
+import org.com.algosapi.algorithm.wordcount.WordCountEngine;
+import org.com.algosapi.algorithm.wordcount.WordCountTable;
+import org.com.algosapi.algorithm.wordcount.WordScanner;
+import org.com.algosapi.common.concurrent.Cancellation;
+import org.com.algosapi.common.concurrent.SequentialScope;
 import org.com.algosapi.common.exception.DomainException;
 import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AlgorithmServiceImpl implements AlgorithmService {
 
-    private static final Pattern WORD = Pattern.compile("[a-zA-Z0-9']+");
+    private final int parallelThreshold;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int maxTopK;
+    private final int maxWordBytes;
+    private final ParallelWordCounter parallelWordCounter;
+    private final GraphemeReverser reverser;
+
+    public AlgorithmServiceImpl() {
+        this(new AlgorithmProperties());
+    }
+
+    public AlgorithmServiceImpl(AlgorithmProperties properties) {
+        this(properties, ForkJoinPool.commonPool());
+    }
+
+    @Autowired
+    public AlgorithmServiceImpl(AlgorithmProperties properties,
+                                @Qualifier("wordCountPool") ForkJoinPool wordCountPool) {
+        var wordFrequency = properties.getWordFrequency();
+        this.parallelThreshold = wordFrequency.getParallelThreshold();
+        this.sketchWidth = wordFrequency.getSketchWidth();
+        this.sketchDepth = wordFrequency.getSketchDepth();
+        this.maxTopK = wordFrequency.getMaxTopK();
+        this.maxWordBytes = wordFrequency.getMaxWordBytes();
+        this.parallelWordCounter = new ParallelWordCounter(wordCountPool);
+        var reverse = properties.getReverse();
+        this.reverser = new GraphemeReverser(reverse.getBlockSize(), reverse.getSpillDir());
+    }
 
     @Override
     public ReverseStringResponse reverse(ReverseStringRequest request) {
-        var input = request.getText();
-        var sb = new StringBuilder(input);
-        return new ReverseStringResponse(sb.reverse().toString());
+        return new ReverseStringResponse(GraphemeReverser.reverse(request.getText()));
+    }
+
+    @Override
+    public long reverseStream(InputStream input, OutputStream output) {
+        try {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            return reverser.reverse(new InputStreamReader(input, StandardCharsets.UTF_8), writer);
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.INTERNAL_ERROR, "Failed to stream reversed text");
+        }
     }
 
     @Override
     public WordFrequencyResponse wordFrequency(WordFrequencyRequest request) {
-        String lower = request.getText().toLowerCase(Locale.ROOT);
-        Matcher matcher = WORD.matcher(lower);
-        Map<String, Long> map = new HashMap<>();
+        String text = request.getText();
+        Integer limit = request.getLimit();
+        if (request.isApproximate()) {
+            if (limit == null) {
+                throw new DomainException(ErrorCode.INVALID_ARGUMENT, "approximate mode requires limit");
+            }
+            requirePositive(limit);
+            // 힙과 후보 맵은 k 에 비례해 미리 잡으므로 설정 상한으로 자른다
+            HeavyHitters heavyHitters = new HeavyHitters(Math.min(limit, maxTopK), sketchWidth, sketchDepth);
+            WordScanner scanner = new WordScanner(heavyHitters);
+            scanner.accept(text, 0, text.length());
+            scanner.finish();
+            return new WordFrequencyResponse(heavyHitters.toWordCounts(), WordCountEngine.APPROXIMATE);
+        }
 
-        while (matcher.find()) {
-            map.merge(matcher.group(), 1L, Long::sum);
+        // 비동기 작업(SequentialScope)은 실행 스레드에서만 계산해야 CPU 예산이 걸린다
+        if (text.length() >= parallelThreshold && !SequentialScope.isActive()) {
+            WordCountTable table = parallelWordCounter.count(text);
+            return new WordFrequencyResponse(rank(table, limit), WordCountEngine.PARALLEL);
         }
 
-        List<WordCount> list = map.entrySet().stream()
-            .map(e -> new WordCount(e.getKey(), e.getValue()))
-            .sorted(Comparator.comparingLong(WordCount::getCount).reversed()
-                .thenComparing(WordCount::getWord))
-                .collect(Collectors.toList());
-        return new WordFrequencyResponse(list);
+        WordCountTable table = new WordCountTable();
+        WordScanner scanner = new WordScanner(table);
+        scanner.accept(text, 0, text.length());
+        scanner.finish();
+        return new WordFrequencyResponse(rank(table, limit), WordCountEngine.SEQUENTIAL);
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequencyStream(InputStream input, Integer limit) {
+        // 구분자 없는 입력이 단어 버퍼/테이블을 입력 크기만큼 키우지 않도록 단어 길이를 제한한다
+        WordCountTable table = new WordCountTable();
+        try {
+            new WordScanner(table, maxWordBytes).scan(input);
+        } catch (IllegalArgumentException e) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, e.getMessage());
+        } catch (IOException e) {
+            throw new DomainException(ErrorCode.INTERNAL_ERROR, "Failed to read request body");
+        }
+        return new WordFrequencyResponse(rank(table, limit), WordCountEngine.STREAMING);
+    }
+
+    // 순위만 정해 두고 WordCount 목록은 만들지 않는다 (NDJSON 은 테이블에서 바로 쓴다)
+    private RankedWordCounts rank(WordCountTable table, Integer limit) {
+        if (limit != null) {
+            requirePositive(limit);
+        }
+        return RankedWordCounts.of(table, limit);
+    }
+
+    private static void requirePositive(int limit) {
+        if (limit <= 0) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "limit must be positive");
+        }
     }
 
     @Override
     public TwoSumResponse twoSum(TwoSumRequest request) {
         int[] nums = request.getNumbers();
         int target = request.getTarget();
-        Map<Integer, Integer> indexByValue = new HashMap<>();
+        if (request.isSorted() && isAscending(nums)) {
+            return twoSumSorted(nums, target);
+        }
+
+        IntIntMap indexByValue = new IntIntMap(nums.length);
         for (int i = 0; i < nums.length; i++) {
+            Cancellation.checkEvery(i);
             int need = target - nums[i];
-            Integer j = indexByValue.get(need);
-            if (j != null) {
+            int j = indexByValue.get(need, -1);
+            if (j >= 0) {
                 return new TwoSumResponse(j, i);
             }
             indexByValue.put(nums[i], i);
@@ -72,37 +164,49 @@ public class AlgorithmServiceImpl implements AlgorithmService {
         throw new DomainException(ErrorCode.NOT_FOUND, "No two-sum solution");
     }
 
+    // 정렬된 입력: 추가 메모리 없이 양끝에서 좁혀 간다 - O(n)
+    private TwoSumResponse twoSumSorted(int[] nums, int target) {
+        int left = 0;
+        int right = nums.length - 1;
+        while (left < right) {
+            long sum = (long) nums[left] + nums[right];
+            if (sum == target) {
+                return new TwoSumResponse(left, right);
+            }
+            if (sum < target) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        throw new DomainException(ErrorCode.NOT_FOUND, "No two-sum solution");
+    }
+
+    private boolean isAscending(int[] nums) {
+        for (int i = 1; i < nums.length; i++) {
+            if (nums[i - 1] > nums[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public UniqueSortResponse uniqueSort(UniqueSortRequest request) {
         int[] arr = request.getNumbers();
-        return new UniqueSortResponse(
-            Arrays.stream(arr).distinct().sorted().toArray()
-        );
+        return new UniqueSortResponse(UniqueIntSorter.uniqueSort(arr));
     }
 
     @Override
     public ValidParenthesesResponse validParentheses(ValidParenthesesRequest request) {
-        String str = request.getStr();
-        Deque<Character> stack = new ArrayDeque<>();
-        for (char c : str.toCharArray()) {
-            if (c == '(' || c == '[' || c == '{') {
-                stack.push(c);
-            } else if (c == ')' || c == ']' || c == '}') {
-                if (stack.isEmpty()) {
-                    return new ValidParenthesesResponse(false);
-                }
-
-                char top = stack.pop();
-                if (!matches(top, c)) {
-                    return new ValidParenthesesResponse(false);
-                }
-            }
+        BracketMatcher matcher;
+        try {
+            matcher = BracketMatcher.of(request.getPairs());
+        } catch (IllegalArgumentException e) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, e.getMessage());
         }
 
-        return new ValidParenthesesResponse(stack.isEmpty());
-    }
-
-    private boolean matches(char open, char close) {
-        return (open == '(' && close == ')') || (open == '[' && close == ']') || (open == '{' && close == '}');
+        BracketMatcher.Result result = matcher.match(request.getStr());
+        return new ValidParenthesesResponse(result.isValid(), result.getMismatchIndex(), result.getMaxDepth());
     }
 }
@@ -0,0 +1,10 @@
+package org.com.algosapi.algorithm.service;
+
+import org.com.algosapi.algorithm.dto.request.BatchRequest;
+import org.com.algosapi.algorithm.dto.response.BatchResponse;
+
+public interface BatchService {
+
+    BatchResponse execute(BatchRequest request);
+
+}
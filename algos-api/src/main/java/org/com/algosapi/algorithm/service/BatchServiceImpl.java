@@ -0,0 +1,72 @@
+package org.com.algosapi.algorithm.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.BatchOperation;
+import org.com.algosapi.algorithm.dto.request.BatchRequest;
+import org.com.algosapi.algorithm.dto.response.BatchItemResponse;
+import org.com.algosapi.algorithm.dto.response.BatchResponse;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 알고리즘 연산을 한 번에 실행
+ * - 연산마다 batchExecutor(고정 크기 풀 + 제한된 큐)에서 병렬 실행하고, 결과는 요청 순서대로 모은다.
+ * - 한 연산의 검증 실패/DomainException 은 그 항목만 실패로 기록하고 나머지는 계속 실행한다.
+ */
+@Service
+public class BatchServiceImpl implements BatchService {
+
+    private final AlgorithmOperationRunner runner;
+    private final ExecutorService batchExecutor;
+    private final int maxOperations;
+
+    public BatchServiceImpl(AlgorithmOperationRunner runner,
+                            @Qualifier("batchExecutor") ExecutorService batchExecutor,
+                            AlgorithmProperties properties) {
+        this.runner = runner;
+        this.batchExecutor = batchExecutor;
+        this.maxOperations = properties.getBatch().getMaxOperations();
+    }
+
+    @Override
+    public BatchResponse execute(BatchRequest request) {
+        List<BatchOperation> operations = request.getOperations();
+        if (operations.size() > maxOperations) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT,
+                "Too many operations: " + operations.size() + " > " + maxOperations);
+        }
+
+        List<CompletableFuture<BatchItemResponse>> futures = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            int index = i;
+            BatchOperation operation = operations.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> run(index, operation), batchExecutor));
+        }
+
+        List<BatchItemResponse> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<BatchItemResponse> future : futures) {
+            results.add(future.join());
+        }
+        return new BatchResponse(results);
+    }
+
+    private BatchItemResponse run(int index, BatchOperation operation) {
+        AlgorithmOperation op = operation.getOp();
+        try {
+            return BatchItemResponse.ok(index, op, runner.run(op, operation.getPayload()));
+        } catch (DomainException e) {
+            var code = e.getErrorCode();
+            return BatchItemResponse.fail(index, op, code.getStatus(), code.getMessage() + ": " + e.getMessage());
+        } catch (RuntimeException e) {
+            return BatchItemResponse.fail(index, op, 500, "Unexpected error");
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.com.algosapi.algorithm.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.com.algosapi.algorithm.bracket.BracketMatcher;
+import org.com.algosapi.algorithm.cache.CacheKey;
+import org.com.algosapi.algorithm.cache.Hash128;
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.dto.response.ReverseStringResponse;
+import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
+import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
+import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.com.algosapi.algorithm.entity.WordCount;
+import org.springframework.stereotype.Service;
+
+/**
+ * AlgorithmServiceImpl 앞단의 결과 캐시 데코레이터 (OffloadingAlgorithmService 가 감싼다)
+ * - 키는 연산 + 입력 128비트 해시, 값의 가중치는 응답 추정 바이트
+ * - 스트리밍 입력(reverseStream, wordFrequencyStream)은 해시하려면 본문을 모두 읽어야 하므로 캐시하지 않는다.
+ * - 캐시된 응답은 여러 요청이 공유하므로 호출 측에서 변경하지 않는다.
+ */
+@Service
+public class CachingAlgorithmService implements AlgorithmService {
+
+    private static final long SEED = 0x5EED_A160L;
+    private static final int OBJECT_OVERHEAD = 32;
+
+    private final AlgorithmServiceImpl delegate;
+    private final ResultCache cache;
+
+    public CachingAlgorithmService(AlgorithmServiceImpl delegate, ResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public ReverseStringResponse reverse(ReverseStringRequest request) {
+        return cached(AlgorithmOperation.REVERSE,
+            () -> new Hash128(SEED).putChars(request.getText()),
+            () -> delegate.reverse(request),
+            res -> OBJECT_OVERHEAD + res.getReversed().length() * 2);
+    }
+
+    @Override
+    public long reverseStream(InputStream input, OutputStream output) {
+        return delegate.reverseStream(input, output);
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequency(WordFrequencyRequest request) {
+        return cached(AlgorithmOperation.WORD_FREQUENCY,
+            () -> new Hash128(SEED)
+                .putChars(request.getText())
+                .putNullableInt(request.getLimit())
+                .putBoolean(request.isApproximate()),
+            () -> delegate.wordFrequency(request),
+            CachingAlgorithmService::weigh);
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequencyStream(InputStream input, Integer limit) {
+        return delegate.wordFrequencyStream(input, limit);
+    }
+
+    @Override
+    public TwoSumResponse twoSum(TwoSumRequest request) {
+        return cached(AlgorithmOperation.TWO_SUM,
+            () -> new Hash128(SEED)
+                .putInts(request.getNumbers())
+                .putInt(request.getTarget())
+                .putBoolean(request.isSorted()),
+            () -> delegate.twoSum(request),
+            res -> OBJECT_OVERHEAD);
+    }
+
+    @Override
+    public UniqueSortResponse uniqueSort(UniqueSortRequest request) {
+        return cached(AlgorithmOperation.UNIQUE_SORT,
+            () -> new Hash128(SEED).putInts(request.getNumbers()),
+            () -> delegate.uniqueSort(request),
+            res -> OBJECT_OVERHEAD + res.getNumbers().length * 4);
+    }
+
+    @Override
+    public ValidParenthesesResponse validParentheses(ValidParenthesesRequest request) {
+        return cached(AlgorithmOperation.VALID_PARENTHESES,
+            () -> new Hash128(SEED).putChars(request.getStr())
+                .putChars(request.getPairs() == null ? BracketMatcher.DEFAULT_PAIRS : request.getPairs()),
+            () -> delegate.validParentheses(request),
+            res -> OBJECT_OVERHEAD);
+    }
+
+    private <T> T cached(AlgorithmOperation op, Supplier<Hash128> hash, Supplier<T> compute, ToIntFunction<T> weigher) {
+        if (!cache.isEnabled(op)) {
+            return compute.get();
+        }
+        return cache.get(CacheKey.of(op, hash.get()), compute, weigher);
+    }
+
+    // 테이블 뷰는 테이블 전체를 붙잡고 있으므로 그 크기로 센다
+    private static int weigh(WordFrequencyResponse res) {
+        if (res.ranked() != null) {
+            return (int) Math.min(Integer.MAX_VALUE, OBJECT_OVERHEAD + res.ranked().memoryBytes());
+        }
+        long weight = OBJECT_OVERHEAD;
+        for (WordCount wc : res.getFrequencies()) {
+            weight += OBJECT_OVERHEAD + 40 + wc.getWord().length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+}
@@ -0,0 +1,232 @@
+package org.com.algosapi.algorithm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.dto.response.ReverseStringResponse;
+import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
+import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
+import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.com.algosapi.common.exception.DomainException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가장 바깥쪽 데코레이터 - 연산별 지연 시간/입력·출력 크기/오류 수 기록 (캐시 hit, CPU 풀 대기 시간 포함)
+ * - algorithm.calls (timer, operation/outcome) : outcome = success, ErrorCode 이름, error
+ * - algorithm.input.size / algorithm.output.size (summary, operation) : 문자 수, 원소 수, 단어 수
+ * - algorithm.errors (counter, operation/code) : DomainException 수
+ * - 타이머와 크기 분포는 percentile histogram 으로 내보낸다 (/actuator/prometheus).
+ */
+@Primary
+@Service
+public class MeteredAlgorithmService implements AlgorithmService {
+
+    static final String CALLS = "algorithm.calls";
+    static final String INPUT_SIZE = "algorithm.input.size";
+    static final String OUTPUT_SIZE = "algorithm.output.size";
+    static final String ERRORS = "algorithm.errors";
+
+    private static final String SUCCESS = "success";
+
+    private final OffloadingAlgorithmService delegate;
+    private final MeterRegistry registry;
+
+    private final Meters reverse;
+    private final Meters reverseStream;
+    private final Meters wordFrequency;
+    private final Meters wordFrequencyStream;
+    private final Meters twoSum;
+    private final Meters uniqueSort;
+    private final Meters validParentheses;
+
+    public MeteredAlgorithmService(OffloadingAlgorithmService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.reverse = new Meters("reverse", true);
+        this.reverseStream = new Meters("reverse-stream", true);
+        this.wordFrequency = new Meters("word-frequency", true);
+        this.wordFrequencyStream = new Meters("word-frequency-stream", true);
+        this.twoSum = new Meters("two-sum", false);
+        this.uniqueSort = new Meters("unique-sort", true);
+        this.validParentheses = new Meters("valid-parentheses", false);
+    }
+
+    @Override
+    public ReverseStringResponse reverse(ReverseStringRequest request) {
+        return record(reverse, request.getText().length(),
+            () -> delegate.reverse(request), res -> res.getReversed().length());
+    }
+
+    // 입력 크기는 읽은 바이트 수, 출력 크기는 뒤집은 글자(char) 수
+    @Override
+    public long reverseStream(InputStream input, OutputStream output) {
+        CountingInputStream counting = new CountingInputStream(input);
+        long start = System.nanoTime();
+        try {
+            long chars = delegate.reverseStream(counting, output);
+            reverseStream.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            reverseStream.outputSize.record(chars);
+            return chars;
+        } catch (RuntimeException e) {
+            failed(reverseStream, e, System.nanoTime() - start);
+            throw e;
+        } finally {
+            reverseStream.inputSize.record(counting.count);
+        }
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequency(WordFrequencyRequest request) {
+        return record(wordFrequency, request.getText().length(),
+            () -> delegate.wordFrequency(request), WordFrequencyResponse::size);
+    }
+
+    // 입력 크기는 끝까지 읽은 바이트 수
+    @Override
+    public WordFrequencyResponse wordFrequencyStream(InputStream input, Integer limit) {
+        CountingInputStream counting = new CountingInputStream(input);
+        long start = System.nanoTime();
+        try {
+            WordFrequencyResponse res = delegate.wordFrequencyStream(counting, limit);
+            wordFrequencyStream.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            wordFrequencyStream.outputSize.record(res.size());
+            return res;
+        } catch (RuntimeException e) {
+            failed(wordFrequencyStream, e, System.nanoTime() - start);
+            throw e;
+        } finally {
+            wordFrequencyStream.inputSize.record(counting.count);
+        }
+    }
+
+    @Override
+    public TwoSumResponse twoSum(TwoSumRequest request) {
+        return record(twoSum, request.getNumbers().length,
+            () -> delegate.twoSum(request), null);
+    }
+
+    @Override
+    public UniqueSortResponse uniqueSort(UniqueSortRequest request) {
+        return record(uniqueSort, request.getNumbers().length,
+            () -> delegate.uniqueSort(request), res -> res.getNumbers().length);
+    }
+
+    @Override
+    public ValidParenthesesResponse validParentheses(ValidParenthesesRequest request) {
+        return record(validParentheses, request.getStr().length(),
+            () -> delegate.validParentheses(request), null);
+    }
+
+    private <T> T record(Meters meters, long inputSize, Supplier<T> call, ToLongFunction<T> outputSize) {
+        meters.inputSize.record(inputSize);
+        long start = System.nanoTime();
+        T res;
+        try {
+            res = call.get();
+        } catch (RuntimeException e) {
+            failed(meters, e, System.nanoTime() - start);
+            throw e;
+        }
+        meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (outputSize != null) {
+            meters.outputSize.record(outputSize.applyAsLong(res));
+        }
+        return res;
+    }
+
+    private void failed(Meters meters, RuntimeException e, long elapsedNanos) {
+        String outcome = "error";
+        if (e instanceof DomainException domain) {
+            outcome = domain.getErrorCode().name();
+            Counter.builder(ERRORS)
+                .tag("operation", meters.operation)
+                .tag("code", outcome)
+                .register(registry)
+                .increment();
+        }
+        timer(meters.operation, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder(CALLS)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /** 연산별로 매 호출 조회하지 않도록 미리 등록해 둔 미터 */
+    private final class Meters {
+
+        final String operation;
+        final Timer success;
+        final DistributionSummary inputSize;
+        final DistributionSummary outputSize;
+
+        Meters(String operation, boolean hasOutputSize) {
+            this.operation = operation;
+            this.success = timer(operation, SUCCESS);
+            this.inputSize = summary(INPUT_SIZE, operation);
+            this.outputSize = hasOutputSize ? summary(OUTPUT_SIZE, operation) : null;
+        }
+
+        private DistributionSummary summary(String name, String operation) {
+            return DistributionSummary.builder(name)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+    }
+
+}
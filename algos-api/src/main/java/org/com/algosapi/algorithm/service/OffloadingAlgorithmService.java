@@ -0,0 +1,108 @@
+package org.com.algosapi.algorithm.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.dto.response.ReverseStringResponse;
+import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
+import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
+import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가상 스레드에서 호출된 큰 연산을 제한된 플랫폼 스레드 풀(cpuExecutor)로 넘기는 데코레이터
+ * - 작은 입력과 플랫폼 스레드(배치/작업 풀 등)에서의 호출은 그대로 실행한다.
+ * - 스트리밍 입력은 읽기가 I/O 이므로 넘기지 않는다.
+ * - CPU 풀 큐가 가득 차면 TOO_MANY_REQUESTS
+ */
+@Service
+public class OffloadingAlgorithmService implements AlgorithmService {
+
+    private final CachingAlgorithmService delegate;
+    private final ExecutorService cpuExecutor;
+    private final int offloadThreshold;
+
+    public OffloadingAlgorithmService(CachingAlgorithmService delegate,
+        @Qualifier("cpuExecutor") ExecutorService cpuExecutor, AlgorithmProperties properties) {
+        this.delegate = delegate;
+        this.cpuExecutor = cpuExecutor;
+        this.offloadThreshold = properties.getExecution().getOffloadThreshold();
+    }
+
+    @Override
+    public ReverseStringResponse reverse(ReverseStringRequest request) {
+        return run(request.getText().length(), () -> delegate.reverse(request));
+    }
+
+    @Override
+    public long reverseStream(InputStream input, OutputStream output) {
+        return delegate.reverseStream(input, output);
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequency(WordFrequencyRequest request) {
+        return run(request.getText().length(), () -> delegate.wordFrequency(request));
+    }
+
+    @Override
+    public WordFrequencyResponse wordFrequencyStream(InputStream input, Integer limit) {
+        return delegate.wordFrequencyStream(input, limit);
+    }
+
+    @Override
+    public TwoSumResponse twoSum(TwoSumRequest request) {
+        return run(request.getNumbers().length, () -> delegate.twoSum(request));
+    }
+
+    @Override
+    public UniqueSortResponse uniqueSort(UniqueSortRequest request) {
+        return run(request.getNumbers().length, () -> delegate.uniqueSort(request));
+    }
+
+    @Override
+    public ValidParenthesesResponse validParentheses(ValidParenthesesRequest request) {
+        return run(request.getStr().length(), () -> delegate.validParentheses(request));
+    }
+
+    private <T> T run(int inputSize, Supplier<T> call) {
+        if (inputSize < offloadThreshold || !Thread.currentThread().isVirtual()) {
+            return call.get();
+        }
+
+        Future<T> future;
+        try {
+            future = cpuExecutor.submit(call::get);
+        } catch (RejectedExecutionException e) {
+            throw new DomainException(ErrorCode.TOO_MANY_REQUESTS, "CPU pool is saturated");
+        }
+
+        // 가상 스레드는 대기하는 동안 carrier 를 놓아준다
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DomainException(ErrorCode.INTERNAL_ERROR, "Interrupted while waiting for CPU pool");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
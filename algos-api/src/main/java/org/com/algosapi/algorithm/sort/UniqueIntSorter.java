@@ -0,0 +1,167 @@
+package org.com.algosapi.algorithm.sort;
+
+import java.util.Arrays;
+import org.com.algosapi.common.concurrent.Cancellation;
+import org.com.algosapi.common.concurrent.SequentialScope;
+
+/**
+ * 중복 제거 + 오름차순 정렬 (int[] 전용, 박싱 없음)
+ * - min/max/길이만 한 번 훑어 전략을 고른다.
+ *   - 입력이 작으면 Arrays.sort
+ *   - 값 범위가 촘촘하면 bitset
+ *   - 입력이 매우 크면 Arrays.parallelSort (SequentialScope 안에서는 radix sort)
+ *   - 그 외에는 LSD radix sort (8비트 x 4패스)
+ * - 정렬 후에는 제자리(in-place)에서 인접 중복을 압축한다.
+ * - 입력 배열은 변경하지 않는다.
+ * - 단계(범위 측정/radix 패스/압축) 사이마다 인터럽트를 확인한다. Arrays.sort 자체는 중단되지 않는다.
+ */
+public final class UniqueIntSorter {
+
+    public enum Strategy {
+        SMALL,
+        BITSET,
+        RADIX,
+        PARALLEL
+    }
+
+    static final int SMALL_THRESHOLD = 64;
+    static final int PARALLEL_THRESHOLD = 1 << 21;
+
+    // bitset 은 (범위 / 8) 바이트를 쓰므로 입력 크기의 몇 배까지만 허용
+    private static final long BITSET_RANGE_PER_ELEMENT = 32;
+    private static final long MAX_BITSET_RANGE = 1L << 31;
+
+    private UniqueIntSorter() {
+    }
+
+    public static int[] uniqueSort(int[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new int[0];
+        }
+
+        int min = values[0];
+        int max = values[0];
+        for (int i = 1; i < n; i++) {
+            int v = values[i];
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            }
+        }
+        Cancellation.check();
+
+        switch (choose(n, min, max)) {
+            case SMALL:
+                return sortAndCompact(values, false);
+            case BITSET:
+                return bitset(values, min, max);
+            case PARALLEL:
+                return SequentialScope.isActive() ? radix(values) : sortAndCompact(values, true);
+            default:
+                return radix(values);
+        }
+    }
+
+    public static Strategy choose(int length, int min, int max) {
+        long range = (long) max - min + 1;
+        if (length <= SMALL_THRESHOLD) {
+            return Strategy.SMALL;
+        }
+        if (range <= MAX_BITSET_RANGE && range <= length * BITSET_RANGE_PER_ELEMENT) {
+            return Strategy.BITSET;
+        }
+        if (length >= PARALLEL_THRESHOLD) {
+            return Strategy.PARALLEL;
+        }
+        return Strategy.RADIX;
+    }
+
+    private static int[] sortAndCompact(int[] values, boolean parallel) {
+        int[] sorted = values.clone();
+        if (parallel) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        Cancellation.check();
+        return compact(sorted);
+    }
+
+    private static int[] bitset(int[] values, int min, int max) {
+        long range = (long) max - min + 1;
+        long[] words = new long[(int) ((range + 63) >>> 6)];
+        int distinct = 0;
+        for (int v : values) {
+            int offset = v - min;       // 범위 2^31 이하이므로 int 로 충분
+            int word = offset >>> 6;
+            long bit = 1L << offset;
+            if ((words[word] & bit) == 0) {
+                words[word] |= bit;
+                distinct++;
+            }
+        }
+        Cancellation.check();
+
+        int[] result = new int[distinct];
+        int index = 0;
+        for (int w = 0; w < words.length; w++) {
+            long bits = words[w];
+            while (bits != 0) {
+                int offset = (w << 6) + Long.numberOfTrailingZeros(bits);
+                result[index++] = min + offset;
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    private static int[] radix(int[] values) {
+        int n = values.length;
+        int[] src = values.clone();
+        int[] dst = new int[n];
+        int[] counts = new int[256];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            Cancellation.check();
+            Arrays.fill(counts, 0);
+            // 부호 비트를 뒤집어 음수가 앞에 오도록 한다
+            int flip = shift == 24 ? 0x80 : 0;
+            for (int i = 0; i < n; i++) {
+                counts[((src[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+            // 모든 값이 같은 바이트면 이 패스는 건너뛴다
+            if (counts[((src[0] >>> shift) & 0xFF) ^ flip] == n) {
+                continue;
+            }
+            int sum = 0;
+            for (int b = 0; b < 256; b++) {
+                int c = counts[b];
+                counts[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[counts[((v >>> shift) & 0xFF) ^ flip]++] = v;
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        Cancellation.check();
+        return compact(src);
+    }
+
+    // 정렬된 배열의 인접 중복을 제자리에서 제거
+    private static int[] compact(int[] sorted) {
+        int write = 1;
+        for (int read = 1; read < sorted.length; read++) {
+            if (sorted[read] != sorted[write - 1]) {
+                sorted[write++] = sorted[read];
+            }
+        }
+        return write == sorted.length ? sorted : Arrays.copyOf(sorted, write);
+    }
+
+}
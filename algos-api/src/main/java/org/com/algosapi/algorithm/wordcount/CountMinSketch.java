@@ -0,0 +1,50 @@
+package org.com.algosapi.algorithm.wordcount;
+
+/**
+ * Count-Min Sketch - 고정 메모리(width * depth)로 빈도를 근사
+ * - 추정값은 실제 빈도보다 작지 않다 (과대 추정만 발생).
+ * - 행별 해시는 64비트 해시 하나를 두 개로 나눠 h1 + i * h2 로 만든다.
+ */
+public class CountMinSketch {
+
+    private final long[][] table;
+    private final int mask;
+
+    public CountMinSketch(int width, int depth) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two: " + width);
+        }
+        this.table = new long[depth][width];
+        this.mask = width - 1;
+    }
+
+    /** delta 만큼 더한 뒤 갱신된 추정값을 반환 */
+    public long add(byte[] word, int off, int len, long delta) {
+        long hash = hash64(word, off, len);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < table.length; i++) {
+            long[] row = table[i];
+            int index = (h1 + i * h2) & mask;
+            row[index] += delta;
+            estimate = Math.min(estimate, row[index]);
+        }
+        return estimate;
+    }
+
+    private static long hash64(byte[] word, int off, int len) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = off, end = off + len; i < end; i++) {
+            h = (h ^ word[i]) * 0x100000001B3L;
+        }
+        // 하위 비트 분산 (murmur3 fmix64)
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h | 1L << 32;    // h2 가 0 이 되지 않도록
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.com.algosapi.algorithm.wordcount;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.com.algosapi.algorithm.entity.WordCount;
+
+/**
+ * Count-Min Sketch + 크기 k 최소 힙으로 상위 k개 단어를 근사
+ * - 서로 다른 단어가 수백만 개여도 메모리는 sketch 크기 + k 개 엔트리로 고정된다.
+ * - 반환되는 빈도는 sketch 추정값이므로 실제보다 클 수 있다.
+ */
+public class HeavyHitters implements WordSink {
+
+    private final CountMinSketch sketch;
+    private final int k;
+
+    // heap[0] = 후보 중 추정 빈도가 가장 작은 단어
+    private final String[] words;
+    private final long[] estimates;
+    private final Map<String, Integer> positions;
+    private int size;
+
+    public HeavyHitters(int k, int sketchWidth, int sketchDepth) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.k = k;
+        this.words = new String[k];
+        this.estimates = new long[k];
+        this.positions = HashMap.newHashMap(k);
+    }
+
+    @Override
+    public void add(byte[] word, int off, int len, long delta) {
+        long estimate = sketch.add(word, off, len, delta);
+
+        // 힙에 있는 단어의 추정값은 힙 최솟값 이상이므로, 그보다 작으면 후보가 아니다
+        if (size == k && estimate <= estimates[0]) {
+            return;
+        }
+
+        String key = new String(word, off, len, StandardCharsets.ISO_8859_1);
+        Integer index = positions.get(key);
+        if (index != null) {
+            estimates[index] = estimate;
+            siftDown(index);
+        } else if (size < k) {
+            words[size] = key;
+            estimates[size] = estimate;
+            positions.put(key, size);
+            siftUp(size++);
+        } else {
+            positions.remove(words[0]);
+            words[0] = key;
+            estimates[0] = estimate;
+            positions.put(key, 0);
+            siftDown(0);
+        }
+    }
+
+    public List<WordCount> toWordCounts() {
+        List<WordCount> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new WordCount(words[i], estimates[i]));
+        }
+        list.sort(WordCountTable.ORDER);
+        return list;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (estimates[parent] <= estimates[index]) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && estimates[right] < estimates[child]) {
+                child = right;
+            }
+            if (estimates[index] <= estimates[child]) {
+                break;
+            }
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        String word = words[i];
+        words[i] = words[j];
+        words[j] = word;
+        long estimate = estimates[i];
+        estimates[i] = estimates[j];
+        estimates[j] = estimate;
+        positions.put(words[i], i);
+        positions.put(words[j], j);
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.com.algosapi.algorithm.wordcount;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ForkJoinPool 기반 병렬 단어 빈도 계산
+ * - 입력을 단어 경계에서 분할하고, 분할 구간마다 독립된 WordCountTable 에 센 뒤 join 시점에 병합한다.
+ * - 분할 단위는 (입력 길이 / (parallelism * 4)) 로 잡아 작업 수를 스레드 수의 몇 배로 유지한다.
+ * - 호출 스레드가 인터럽트되면 루트 작업을 취소하고, 아직 시작하지 않은 분할 작업은 바로 끝난다.
+ */
+public class ParallelWordCounter {
+
+    private static final int SPLITS_PER_THREAD = 4;
+    private static final int MIN_SPLIT_SIZE = 64 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public ParallelWordCounter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public WordCountTable count(CharSequence text) {
+        int splitSize = Math.max(MIN_SPLIT_SIZE, text.length() / (pool.getParallelism() * SPLITS_PER_THREAD));
+        CountTask root = new CountTask(text, 0, text.length(), splitSize, null);
+        pool.execute(root);
+        try {
+            return root.get();
+        } catch (InterruptedException e) {
+            root.cancel(true);
+            throw new CancellationException("Word count interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class CountTask extends RecursiveTask<WordCountTable> {
+
+        private final CharSequence text;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+        private final CountTask root;
+
+        CountTask(CharSequence text, int from, int to, int splitSize, CountTask root) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+            this.root = root == null ? this : root;
+        }
+
+        @Override
+        protected WordCountTable compute() {
+            if (root.isCancelled()) {
+                throw new CancellationException("Word count cancelled");
+            }
+            if (to - from > splitSize) {
+                int mid = wordBoundary(from + (to - from) / 2);
+                if (mid < to) {
+                    CountTask left = new CountTask(text, from, mid, splitSize, root);
+                    CountTask right = new CountTask(text, mid, to, splitSize, root);
+                    left.fork();
+                    WordCountTable rightTable = right.compute();
+                    WordCountTable leftTable = left.join();
+                    return merge(leftTable, rightTable);
+                }
+            }
+
+            WordCountTable table = new WordCountTable();
+            WordScanner scanner = new WordScanner(table);
+            scanner.accept(text, from, to);
+            scanner.finish();
+            return table;
+        }
+
+        // 단어 중간에서 자르지 않도록 다음 구분자 위치까지 이동
+        private int wordBoundary(int index) {
+            while (index < to && WordScanner.isWordChar(text.charAt(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        // 작은 테이블을 큰 테이블에 합친다
+        private static WordCountTable merge(WordCountTable a, WordCountTable b) {
+            if (a.size() < b.size()) {
+                b.mergeFrom(a);
+                return b;
+            }
+            a.mergeFrom(b);
+            return a;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.com.algosapi.algorithm.wordcount;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.com.algosapi.algorithm.entity.WordCount;
+
+/**
+ * WordCountTable 의 엔트리를 순위 순서(WordCountTable.ORDER)로 가리키는 읽기 전용 뷰
+ * - 순서는 엔트리 번호 int[] 로만 들고 있어, 결과가 커도 WordCount/String 객체를 만들지 않는다.
+ * - forEach 로 테이블의 단어 바이트를 바로 직렬화할 수 있다. 테이블은 이후 변경하지 않아야 한다.
+ */
+public final class RankedWordCounts {
+
+    private final WordCountTable table;
+    private final int[] entries;
+
+    private RankedWordCounts(WordCountTable table, int[] entries) {
+        this.table = table;
+        this.entries = entries;
+    }
+
+    /** limit 이 null 이면 전체 */
+    public static RankedWordCounts of(WordCountTable table, Integer limit) {
+        return new RankedWordCounts(table, table.rankedEntries(limit == null ? Integer.MAX_VALUE : limit));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /** 뷰가 붙잡고 있는 배열 크기 (테이블 전체 + 순서 배열) */
+    public long memoryBytes() {
+        return table.memoryBytes() + (long) entries.length * 4;
+    }
+
+    public void forEach(WordCountTable.EntryVisitor visitor) throws IOException {
+        for (int entry : entries) {
+            table.visit(entry, visitor);
+        }
+    }
+
+    public List<WordCount> toWordCounts() {
+        List<WordCount> list = new ArrayList<>(entries.length);
+        for (int entry : entries) {
+            list.add(new WordCount(table.wordAt(entry), table.countAt(entry)));
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,9 @@
+package org.com.algosapi.algorithm.wordcount;
+
+/** 단어 빈도 계산에 사용된 엔진 (응답 메타데이터) */
+public enum WordCountEngine {
+    SEQUENTIAL,
+    PARALLEL,
+    STREAMING,
+    APPROXIMATE
+}
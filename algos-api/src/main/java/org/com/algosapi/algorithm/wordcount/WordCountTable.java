@@ -0,0 +1,253 @@
+package org.com.algosapi.algorithm.wordcount;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.common.concurrent.Cancellation;
+
+/**
+ * 단어(ASCII 바이트) → 빈도 open addressing 해시 테이블
+ * - 단어 바이트는 하나의 arena 배열에 이어 붙이고, 엔트리는 primitive 배열로 관리한다.
+ * - 메모리 사용량은 입력 크기가 아니라 서로 다른 단어 수(와 그 길이)에 비례한다.
+ */
+public class WordCountTable implements WordSink {
+
+    public static final Comparator<WordCount> ORDER =
+        Comparator.comparingLong(WordCount::getCount).reversed()
+            .thenComparing(WordCount::getWord);
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** 엔트리의 단어 바이트와 빈도를 그대로 넘겨받는다 (WordCount/String 을 만들지 않음) */
+    public interface EntryVisitor {
+
+        void visit(byte[] word, int off, int len, long count) throws IOException;
+
+    }
+
+    private byte[] arena = new byte[256];
+    private int arenaSize;
+
+    // 엔트리별 정보 (삽입 순서)
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // 슬롯: 0 = 비어 있음, 그 외 = 엔트리 인덱스 + 1
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int mask = slots.length - 1;
+
+    @Override
+    public void add(byte[] word, int off, int len, long delta) {
+        int hash = hash(word, off, len);
+        int slot = hash & mask;
+        while (true) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                insert(slot, word, off, len, hash, delta);
+                return;
+            }
+            if (hashes[entry] == hash && equalsAt(entry, word, off, len)) {
+                counts[entry] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public void mergeFrom(WordCountTable other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.arena, other.offsets[i], other.lengths[i], other.counts[i]);
+        }
+    }
+
+    public long count(String word) {
+        byte[] bytes = word.getBytes(StandardCharsets.ISO_8859_1);
+        int hash = hash(bytes, 0, bytes.length);
+        int slot = hash & mask;
+        while (true) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                return 0;
+            }
+            if (hashes[entry] == hash && equalsAt(entry, bytes, 0, bytes.length)) {
+                return counts[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 할당된 배열 크기 기준 메모리 사용량 (바이트, 객체 헤더 제외) */
+    public long memoryBytes() {
+        return arena.length + (long) offsets.length * (4 + 4 + 4 + 8) + (long) slots.length * 4;
+    }
+
+    public String wordAt(int entry) {
+        return new String(arena, offsets[entry], lengths[entry], StandardCharsets.ISO_8859_1);
+    }
+
+    public long countAt(int entry) {
+        return counts[entry];
+    }
+
+    public void visit(int entry, EntryVisitor visitor) throws IOException {
+        visitor.visit(arena, offsets[entry], lengths[entry], counts[entry]);
+    }
+
+    public List<WordCount> toWordCounts() {
+        List<WordCount> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new WordCount(wordAt(i), counts[i]));
+        }
+        list.sort(ORDER);
+        return list;
+    }
+
+    /** 상위 k개만 bounded min-heap 으로 골라 정렬해서 반환 - O(n log k) */
+    public List<WordCount> topWordCounts(int k) {
+        if (k >= size) {
+            return toWordCounts();
+        }
+
+        int[] ranked = rankedEntries(k);
+        List<WordCount> list = new ArrayList<>(ranked.length);
+        for (int entry : ranked) {
+            list.add(new WordCount(wordAt(entry), counts[entry]));
+        }
+        return list;
+    }
+
+    /** 상위 k개(k >= size 면 전체)의 엔트리 번호를 ORDER 순서로 반환 - bounded min-heap 후 heap 정렬, O(n log k) */
+    public int[] rankedEntries(int k) {
+        int limit = Math.min(k, size);
+
+        // heap[0] = 남겨 둔 엔트리 중 순위가 가장 낮은 엔트리
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int entry = 0; entry < size; entry++) {
+            Cancellation.checkEvery(entry);
+            if (heapSize < limit) {
+                heap[heapSize] = entry;
+                siftUp(heap, heapSize++);
+            } else if (limit > 0 && ranksBefore(entry, heap[0])) {
+                heap[0] = entry;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        // 가장 낮은 순위부터 꺼내 뒤에서부터 채운다
+        for (int end = heapSize - 1; end > 0; end--) {
+            int lowest = heap[0];
+            heap[0] = heap[end];
+            siftDown(heap, end);
+            heap[end] = lowest;
+        }
+        return heap;
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], entry)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int entry = heap[0];
+        int index = 0;
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < heapSize && ranksBefore(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ranksBefore(entry, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+
+    // ORDER 기준(빈도 내림차순, 단어 오름차순)으로 a 가 b 보다 앞인지
+    private boolean ranksBefore(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b];
+        }
+        return Arrays.compare(arena, offsets[a], offsets[a] + lengths[a],
+            arena, offsets[b], offsets[b] + lengths[b]) < 0;
+    }
+
+    private void insert(int slot, byte[] word, int off, int len, int hash, long delta) {
+        if (size == offsets.length) {
+            int capacity = size << 1;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        if (arenaSize + len > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length << 1, arenaSize + len));
+        }
+        System.arraycopy(word, off, arena, arenaSize, len);
+
+        offsets[size] = arenaSize;
+        lengths[size] = len;
+        hashes[size] = hash;
+        counts[size] = delta;
+        arenaSize += len;
+        slots[slot] = ++size;
+
+        // load factor 0.5 초과 시 슬롯 확장
+        if (size << 1 > slots.length) {
+            rehash(slots.length << 1);
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry + 1;
+        }
+    }
+
+    private boolean equalsAt(int entry, byte[] word, int off, int len) {
+        if (lengths[entry] != len) {
+            return false;
+        }
+        int start = offsets[entry];
+        return Arrays.equals(arena, start, start + len, word, off, off + len);
+    }
+
+    private static int hash(byte[] word, int off, int len) {
+        int h = 0x811C9DC5;
+        for (int i = off, end = off + len; i < end; i++) {
+            h = (h ^ word[i]) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.com.algosapi.algorithm.wordcount;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.com.algosapi.common.concurrent.Cancellation;
+
+/**
+ * UTF-8 바이트 스트림(또는 CharSequence 구간)을 청크 단위로 읽어 단어를 세는 스캐너
+ * - 단어 규칙은 기존 정규식 [a-zA-Z0-9']+ (소문자 변환 후) 과 동일하다.
+ * - 대소문자는 바이트마다 접어서 현재 단어 버퍼에만 쓰므로 입력 전체를 복사하지 않는다.
+ * - 청크 경계에 걸친 단어/멀티바이트 문자도 이어서 처리한다.
+ * - maxWordLength 를 넘는 단어를 만나면 IllegalArgumentException (구분자 없는 입력으로 단어 버퍼가 끝없이 커지지 않도록).
+ */
+public class WordScanner {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    // CharSequence 입력에서 취소 여부를 확인하는 간격 (문자 수)
+    private static final int CANCEL_CHECK_BLOCK = 1 << 16;
+
+    // 소문자 변환 시 ASCII 가 되는 비 ASCII 문자 (UTF-8 인코딩 값)
+    private static final int KELVIN_SIGN = 0xE284AA;            // U+212A → 'k'
+    private static final int CAPITAL_I_WITH_DOT = 0xC4B0;       // U+0130 → 'i' + U+0307
+
+    // ASCII → 소문자 단어 문자, 단어 문자가 아니면 0
+    private static final byte[] FOLD = new byte[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            FOLD[c] = (byte) c;
+            FOLD[c - 'a' + 'A'] = (byte) c;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            FOLD[c] = (byte) c;
+        }
+        FOLD['\''] = '\'';
+    }
+
+    private final WordSink sink;
+    private final int maxWordLength;
+
+    private byte[] word = new byte[32];
+    private int length;
+
+    // 진행 중인 UTF-8 멀티바이트 시퀀스
+    private int pending;
+    private int pendingRemaining;
+
+    public WordScanner(WordSink sink) {
+        this(sink, Integer.MAX_VALUE - 8);
+    }
+
+    public WordScanner(WordSink sink, int maxWordLength) {
+        if (maxWordLength <= 0) {
+            throw new IllegalArgumentException("maxWordLength must be positive: " + maxWordLength);
+        }
+        this.sink = sink;
+        this.maxWordLength = maxWordLength;
+    }
+
+    public void scan(InputStream in) throws IOException {
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            Cancellation.check();
+            accept(chunk, 0, read);
+        }
+        finish();
+    }
+
+    public void accept(byte[] chunk, int off, int len) {
+        for (int i = off, end = off + len; i < end; i++) {
+            int b = chunk[i] & 0xFF;
+            if (b < 0x80) {
+                if (pendingRemaining > 0) {             // 잘린 시퀀스 = 구분자
+                    pendingRemaining = 0;
+                    endWord();
+                }
+                byte folded = FOLD[b];
+                if (folded != 0) {
+                    append(folded);
+                } else {
+                    endWord();
+                }
+            } else if (b >= 0xC0) {                     // 선행 바이트
+                if (pendingRemaining > 0) {
+                    endWord();
+                }
+                pending = b;
+                pendingRemaining = b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : 1;
+            } else if (pendingRemaining == 0) {         // 짝 없는 연속 바이트
+                endWord();
+            } else {
+                pending = (pending << 8) | b;
+                if (--pendingRemaining == 0) {
+                    if (pending == KELVIN_SIGN) {
+                        append((byte) 'k');
+                    } else if (pending == CAPITAL_I_WITH_DOT) {
+                        append((byte) 'i');
+                        endWord();
+                    } else {
+                        endWord();
+                    }
+                }
+            }
+        }
+    }
+
+    public void accept(CharSequence text, int from, int to) {
+        for (int block = from; block < to; block += CANCEL_CHECK_BLOCK) {
+            Cancellation.check();
+            for (int i = block, end = Math.min(to, block + CANCEL_CHECK_BLOCK); i < end; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    byte folded = FOLD[c];
+                    if (folded != 0) {
+                        append(folded);
+                    } else {
+                        endWord();
+                    }
+                } else if (c == '\u212A') {
+                    append((byte) 'k');
+                } else if (c == '\u0130') {
+                    append((byte) 'i');
+                    endWord();
+                } else {
+                    endWord();
+                }
+            }
+        }
+    }
+
+    public void finish() {
+        pendingRemaining = 0;
+        endWord();
+    }
+
+    /** 현재 단어 버퍼가 차지하는 바이트 수 */
+    public int bufferBytes() {
+        return word.length;
+    }
+
+    static boolean isWordChar(char c) {
+        return c < 0x80 ? FOLD[c] != 0 : c == '\u212A' || c == '\u0130';
+    }
+
+    private void append(byte b) {
+        if (length == word.length) {
+            if (length >= maxWordLength) {
+                throw new IllegalArgumentException("Word longer than " + maxWordLength + " bytes");
+            }
+            word = Arrays.copyOf(word, (int) Math.min((long) length << 1, maxWordLength));
+        }
+        word[length++] = b;
+    }
+
+    private void endWord() {
+        if (length > 0) {
+            sink.add(word, 0, length, 1);
+            length = 0;
+        }
+    }
+
+}
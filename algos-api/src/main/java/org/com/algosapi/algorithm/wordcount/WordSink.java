@@ -0,0 +1,8 @@
+package org.com.algosapi.algorithm.wordcount;
+
+/** WordScanner 가 잘라낸 단어(소문자 ASCII 바이트)를 받는 대상 */
+public interface WordSink {
+
+    void add(byte[] word, int off, int len, long delta);
+
+}
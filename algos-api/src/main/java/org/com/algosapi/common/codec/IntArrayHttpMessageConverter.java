@@ -0,0 +1,114 @@
+package org.com.algosapi.common.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * int[] ↔ application/octet-stream (little-endian int32 연속 배열)
+ * - 고정 크기 청크를 IntBuffer 뷰로 읽고 써서 박싱/중간 객체 없이 int[] 로 바로 변환한다.
+ * - 본문이 maxBodyBytes 를 넘으면 PAYLOAD_TOO_LARGE (413).
+ * - Content-Length 는 클라이언트가 보낸 값이므로 할당 크기로 믿지 않는다.
+ *   배열은 청크 하나 분량에서 시작해 읽은 만큼 늘리고, 선언된 길이는 마지막 복사를 피하는 상한으로만 쓴다.
+ */
+public class IntArrayHttpMessageConverter extends AbstractHttpMessageConverter<int[]> {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_LENGTH = CHUNK_SIZE / 4;
+
+    private final long maxBodyBytes;
+
+    public IntArrayHttpMessageConverter(long maxBodyBytes) {
+        super(MediaType.APPLICATION_OCTET_STREAM);
+        if (maxBodyBytes < 0) {
+            throw new IllegalArgumentException("maxBodyBytes must not be negative: " + maxBodyBytes);
+        }
+        this.maxBodyBytes = Math.min(maxBodyBytes, (long) MAX_LENGTH * 4);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return int[].class == clazz;
+    }
+
+    @Override
+    protected int[] readInternal(Class<? extends int[]> clazz, HttpInputMessage inputMessage) throws IOException {
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength >= 0 && (contentLength & 3) != 0) {
+            throw new HttpMessageNotReadableException("Body length must be a multiple of 4 bytes", inputMessage);
+        }
+        if (contentLength > maxBodyBytes) {
+            throw tooLarge();
+        }
+
+        long maxInts = maxBodyBytes >>> 2;
+        long declaredInts = contentLength >= 0 ? contentLength >>> 2 : maxInts;
+        int[] values = new int[(int) Math.min(declaredInts, INITIAL_LENGTH)];
+        int count = 0;
+
+        byte[] chunk = new byte[CHUNK_SIZE];
+        IntBuffer view = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int carry = 0;      // 이전 청크에서 남은 (4 미만) 바이트 수
+        InputStream in = inputMessage.getBody();
+        int read;
+        while ((read = in.read(chunk, carry, CHUNK_SIZE - carry)) != -1) {
+            int available = carry + read;
+            int ints = available >>> 2;
+            if (count + ints > values.length) {
+                long needed = (long) count + ints;
+                if (needed > maxInts) {
+                    throw tooLarge();
+                }
+                long grown = Math.max((long) values.length << 1, needed);
+                values = Arrays.copyOf(values, (int) Math.min(grown, Math.max(needed, declaredInts)));
+            }
+            view.clear();
+            view.get(values, count, ints);
+            count += ints;
+
+            carry = available & 3;
+            System.arraycopy(chunk, ints << 2, chunk, 0, carry);
+        }
+        if (carry != 0) {
+            throw new HttpMessageNotReadableException("Body length must be a multiple of 4 bytes", inputMessage);
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    private DomainException tooLarge() {
+        return new DomainException(ErrorCode.PAYLOAD_TOO_LARGE, "Body exceeds " + maxBodyBytes + " bytes");
+    }
+
+    @Override
+    protected void writeInternal(int[] values, HttpOutputMessage outputMessage) throws IOException {
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, Math.max(4, values.length << 2))];
+        IntBuffer view = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int perChunk = chunk.length >>> 2;
+        OutputStream out = outputMessage.getBody();
+        for (int offset = 0; offset < values.length; offset += perChunk) {
+            int ints = Math.min(perChunk, values.length - offset);
+            view.clear();
+            view.put(values, offset, ints);
+            out.write(chunk, 0, ints << 2);
+        }
+        out.flush();
+    }
+
+    @Override
+    protected Long getContentLength(int[] values, MediaType contentType) {
+        return (long) values.length << 2;
+    }
+
+}
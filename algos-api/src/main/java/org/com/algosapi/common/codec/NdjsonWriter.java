@@ -0,0 +1,68 @@
+package org.com.algosapi.common.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * application/x-ndjson 응답 작성기 - 한 줄에 항목 하나
+ * - ApiResponse 로 감싼 전체 문서를 만들지 않고 JsonGenerator 로 항목을 바로 쓴다.
+ * - 생성기 버퍼가 찰 때마다 응답으로 내보내므로 직렬화 버퍼가 출력 크기에 비례하지 않는다.
+ * - 단어 빈도는 집계 테이블의 단어 바이트를 그대로 쓰므로 WordCount/String 목록도 만들지 않는다.
+ *   (집계와 순위 정렬은 끝나야 첫 항목이 정해지므로 첫 바이트는 그 뒤에 나간다.
+ *    unique-sort 의 int[] 는 정렬 결과 그 자체라 추가 복사 없이 쓴다)
+ */
+@Component
+public class NdjsonWriter {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** {"word":"a","count":3} */
+    public StreamingResponseBody wordCounts(WordFrequencyResponse frequencies) {
+        return out -> {
+            JsonGenerator gen = generator(out);
+            frequencies.forEachFrequency((word, off, len, count) -> {
+                gen.writeStartObject();
+                gen.writeFieldName("word");
+                gen.writeUTF8String(word, off, len);
+                gen.writeNumberField("count", count);
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+            });
+            gen.flush();
+        };
+    }
+
+    /** 한 줄에 정수 하나 */
+    public StreamingResponseBody ints(int[] values) {
+        return out -> {
+            JsonGenerator gen = generator(out);
+            for (int value : values) {
+                gen.writeNumber(value);
+                gen.writeRaw('\n');
+            }
+            gen.flush();
+        };
+    }
+
+    // 응답 스트림은 컨테이너가 닫는다
+    private JsonGenerator generator(OutputStream out) throws IOException {
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(null);
+        return gen;
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.com.algosapi.common.concurrent;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 긴 알고리즘 루프의 협조적 취소 지점
+ * - 작업 취소/CPU 예산 초과는 실행 스레드를 인터럽트만 하므로, 루프가 주기적으로 확인해야 스레드가 풀려난다.
+ * - 인터럽트 상태를 지우고 CancellationException 을 던진다.
+ */
+public final class Cancellation {
+
+    // checkEvery 확인 간격 (반복 수, 2의 거듭제곱)
+    private static final int INTERVAL_MASK = (1 << 16) - 1;
+
+    private Cancellation() {
+    }
+
+    public static void check() {
+        if (Thread.interrupted()) {
+            throw new CancellationException("Operation interrupted");
+        }
+    }
+
+    /** 반복 i 가 확인 간격에 걸릴 때만 check() - 원소마다 도는 루프용 */
+    public static void checkEvery(int i) {
+        if ((i & INTERVAL_MASK) == 0) {
+            check();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.com.algosapi.common.concurrent;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서만 계산하도록 강제하는 구간
+ * - 비동기 작업은 실행 스레드의 CPU 시간으로 예산을 재므로, 병렬 엔진(ForkJoinPool, parallelSort)으로
+ *   일을 넘기면 실행 스레드는 join 에서 기다리기만 해 예산이 걸리지 않는다.
+ * - 병렬 경로는 isActive() 이면 같은 결과의 순차 경로로 바꾼다.
+ */
+public final class SequentialScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private SequentialScope() {
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (isActive()) {
+            return action.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package org.com.algosapi.common.exception;
 public enum ErrorCode {
     INVALID_ARGUMENT(400, "Invalid argument"),
     NOT_FOUND(404, "Not Found"),
+    PAYLOAD_TOO_LARGE(413, "Payload too large"),
+    TOO_MANY_REQUESTS(429, "Too many requests"),
     INTERNAL_ERROR(500, "Internal server error");
 
     private final int status;
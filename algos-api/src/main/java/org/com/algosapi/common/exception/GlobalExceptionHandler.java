@@ -3,6 +3,7 @@ package org.com.algosapi.common.exception;
 import java.net.BindException;
 import org.com.algosapi.common.api.ApiResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,6 +16,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ApiResponse.fail("Validation failed: " + ex.getMessage()));
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<?>> handleUnreadable(HttpMessageNotReadableException ex){
+        return ResponseEntity.badRequest().body(ApiResponse.fail("Malformed request body: " + ex.getMostSpecificCause().getMessage()));
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ApiResponse<?>> handleDomain(DomainException ex){
         var code = ex.getErrorCode();
@@ -0,0 +1,164 @@
+package org.com.algosapi.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** 알고리즘 엔진 설정 주입 */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "algorithm")
+public class AlgorithmProperties {
+
+    private WordFrequency wordFrequency = new WordFrequency();
+
+    private Batch batch = new Batch();
+
+    private Cache cache = new Cache();
+
+    private Job job = new Job();
+
+    private Execution execution = new Execution();
+
+    private Session session = new Session();
+
+    private Reverse reverse = new Reverse();
+
+    private Binary binary = new Binary();
+
+    @Getter
+    @Setter
+    public static class WordFrequency {
+
+        // 이 길이(문자 수) 이상이면 병렬 엔진 사용
+        private int parallelThreshold = 1 << 20;
+
+        // 병렬 엔진 ForkJoinPool 크기
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        // 근사 top-K 용 Count-Min Sketch 크기 (width 는 2의 거듭제곱)
+        private int sketchWidth = 1 << 16;
+        private int sketchDepth = 4;
+
+        // 근사 top-K 의 k 상한 (limit 이 더 크면 이 값으로 자른다)
+        private int maxTopK = 10_000;
+
+        // 스트리밍 입력에서 한 단어의 최대 길이 (UTF-8 바이트) - 넘으면 400
+        private int maxWordBytes = 64 * 1024;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        // 한 번의 배치 요청에 담을 수 있는 최대 연산 수
+        private int maxOperations = 10_000;
+
+        // 배치 연산 실행 스레드 수 / 대기 큐 크기 (가득 차면 호출 스레드에서 실행)
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 1_000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        // 캐시할 연산 (reverse/two-sum 처럼 해시 비용과 계산 비용이 비슷한 연산은 기본 제외)
+        private Set<AlgorithmOperation> operations =
+            EnumSet.of(AlgorithmOperation.WORD_FREQUENCY, AlgorithmOperation.UNIQUE_SORT);
+
+        // 전체/항목별 최대 가중치 (결과 추정 바이트)
+        private long maximumWeight = 64L * 1024 * 1024;
+        private long maxEntryWeight = 1024 * 1024;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Job {
+
+        // 작업 실행 스레드 수 / 대기 큐 크기 (가득 차면 429)
+        private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueCapacity = 64;
+
+        // 완료된 작업 결과 보관 시간
+        private Duration ttl = Duration.ofMinutes(10);
+
+        // 작업당 CPU 시간 예산
+        private Duration cpuBudget = Duration.ofSeconds(30);
+
+        // 작업당 실행 시간(벽시계) 상한 - CPU 예산에 잡히지 않는 대기/다른 스레드 작업의 안전망
+        private Duration maxRunTime = Duration.ofMinutes(2);
+
+        // long-poll 최대 대기 시간
+        private Duration maxWait = Duration.ofSeconds(30);
+
+    }
+
+    @Getter
+    @Setter
+    public static class Execution {
+
+        // 가상 스레드(spring.threads.virtual.enabled=true)에서 이 크기(문자/원소 수) 이상인 연산은 CPU 풀로 넘긴다
+        private int offloadThreshold = 64 * 1024;
+
+        // CPU 풀 스레드 수 / 대기 큐 크기 (가득 차면 429)
+        private int cpuThreads = Runtime.getRuntime().availableProcessors();
+        private int cpuQueueCapacity = 256;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Session {
+
+        // 동시에 열어 둘 수 있는 단어 빈도 세션 수 (넘으면 429)
+        private int maxSessions = 1_000;
+
+        // 세션당 집계 테이블 메모리 상한 (넘으면 세션을 닫고 400)
+        private long maxMemoryBytes = 32L * 1024 * 1024;
+
+        // 한 단어의 최대 길이 (UTF-8 바이트) - 넘으면 세션을 닫고 400
+        private int maxWordBytes = 64 * 1024;
+
+        // 모든 세션의 메모리 합 상한 (넘으면 늘리려던 세션을 닫고 429)
+        private long maxTotalMemoryBytes = 512L * 1024 * 1024;
+
+        // 이 시간 동안 접근이 없으면 세션 삭제
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+    }
+
+    @Getter
+    @Setter
+    public static class Reverse {
+
+        // 스트리밍 뒤집기 블록 크기 (글자 수) - 입력이 이보다 크면 블록을 임시 파일로 내린다
+        private int blockSize = 1 << 20;
+
+        // 임시 파일 위치 (null 이면 java.io.tmpdir)
+        private Path spillDir;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Binary {
+
+        // application/octet-stream int 배열 요청 본문 최대 크기 (넘으면 413)
+        private long maxBodyBytes = 64L * 1024 * 1024;
+
+    }
+
+}
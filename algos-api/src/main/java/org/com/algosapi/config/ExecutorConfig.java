@@ -0,0 +1,75 @@
+package org.com.algosapi.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 알고리즘 연산 실행용 스레드 풀 */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchExecutor(AlgorithmProperties properties) {
+        var batch = properties.getBatch();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            batch.getThreads(), batch.getThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(batch.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "batch-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // 큐가 가득 차면 RejectedExecutionException (작업 API 에서 429 로 변환)
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService jobExecutor(AlgorithmProperties properties) {
+        var job = properties.getJob();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            job.getThreads(), job.getThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(job.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "job-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 가상 스레드 요청의 CPU 작업 전용 플랫폼 스레드 풀 - carrier 스레드를 오래 점유하지 않도록 분리
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService cpuExecutor(AlgorithmProperties properties) {
+        var execution = properties.getExecution();
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            execution.getCpuThreads(), execution.getCpuThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(execution.getCpuQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cpu-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 병렬 단어 빈도 엔진용 ForkJoinPool (서비스를 직접 생성할 때는 commonPool 사용)
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool wordCountPool(AlgorithmProperties properties) {
+        return new ForkJoinPool(properties.getWordFrequency().getParallelism());
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.com.algosapi.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 결과 캐시 hit/miss/eviction 을 cache.* 미터로 노출 */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder resultCacheMetrics(ResultCache resultCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, resultCache.getNativeCache(), "algorithm-results");
+    }
+
+}
@@ -1,5 +1,26 @@
 package org.com.algosapi.config;
 
-public class WebConfig {
+import java.util.List;
+import org.com.algosapi.common.codec.IntArrayHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final long maxBinaryBodyBytes;
+
+    // @WebMvcTest 슬라이스에는 AlgorithmProperties 가 없으므로 기본값으로 대체
+    public WebConfig(ObjectProvider<AlgorithmProperties> properties) {
+        this.maxBinaryBodyBytes = properties.getIfAvailable(AlgorithmProperties::new).getBinary().getMaxBodyBytes();
+    }
+
+    // int[] ↔ application/octet-stream (little-endian int32)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new IntArrayHttpMessageConverter(maxBinaryBodyBytes));
+    }
 
 }
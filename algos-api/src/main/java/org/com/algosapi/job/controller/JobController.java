@@ -0,0 +1,54 @@
+package org.com.algosapi.job.controller;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.com.algosapi.common.api.ApiResponse;
+import org.com.algosapi.job.dto.request.JobRequest;
+import org.com.algosapi.job.dto.response.JobResponse;
+import org.com.algosapi.job.service.JobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<JobResponse>> submit(@Valid @RequestBody JobRequest req) {
+        JobResponse job = jobService.submit(req);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/jobs/" + job.getId()))
+            .body(ApiResponse.ok(job));
+    }
+
+    // waitMillis > 0 이면 완료될 때까지(최대 maxWait) 응답을 미룬다 - 대기 중에는 서블릿 스레드를 점유하지 않는다
+    // 비동기 요청 타임아웃도 maxWait 로 자른 값 기준 (음수는 400)
+    @GetMapping("/{id}")
+    public DeferredResult<ApiResponse<JobResponse>> get(@PathVariable String id,
+                                                        @RequestParam(defaultValue = "0") long waitMillis) {
+        Duration wait = jobService.boundWait(Duration.ofMillis(waitMillis));
+        DeferredResult<ApiResponse<JobResponse>> result = new DeferredResult<>(wait.toMillis() + 5_000);
+        jobService.await(id, wait)
+            .thenAccept(job -> result.setResult(ApiResponse.ok(job)));
+        return result;
+    }
+
+    @DeleteMapping("/{id}")
+    public ApiResponse<JobResponse> cancel(@PathVariable String id) {
+        return ApiResponse.ok(jobService.cancel(id));
+    }
+
+}
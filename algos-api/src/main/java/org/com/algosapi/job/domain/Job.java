@@ -0,0 +1,131 @@
+package org.com.algosapi.job.domain;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.common.api.ApiResponse;
+
+/**
+ * 비동기 작업 상태
+ * - 상태 전이는 동기화해서 완료/실패/취소/예산 초과 중 먼저 일어난 것 하나만 반영된다.
+ * - status 는 결과 필드를 모두 쓴 뒤 마지막에 갱신하므로, 완료 상태를 읽으면 결과도 보인다.
+ * - done 은 long-poll 대기에 쓰는 완료 신호다.
+ */
+public class Job {
+
+    private final String id;
+    private final AlgorithmOperation op;
+    private final Instant createdAt = Instant.now();
+    private final CompletableFuture<Job> done = new CompletableFuture<>();
+
+    private volatile JobStatus status = JobStatus.PENDING;
+    private volatile Future<?> future;
+    private volatile Thread worker;
+    private volatile long cpuStartNanos;
+    private volatile long startedAtNanos;
+    private volatile Instant completedAt;
+    private volatile int httpStatus;
+    private volatile ApiResponse<?> result;
+
+    public Job(String id, AlgorithmOperation op) {
+        this.id = id;
+        this.op = op;
+    }
+
+    public synchronized boolean start(Thread worker, long cpuStartNanos) {
+        if (status != JobStatus.PENDING) {
+            return false;
+        }
+        this.worker = worker;
+        this.cpuStartNanos = cpuStartNanos;
+        this.startedAtNanos = System.nanoTime();
+        this.status = JobStatus.RUNNING;
+        return true;
+    }
+
+    public boolean succeed(Object data) {
+        return complete(JobStatus.SUCCEEDED, 200, ApiResponse.ok(data));
+    }
+
+    public boolean fail(int httpStatus, String message) {
+        return complete(JobStatus.FAILED, httpStatus, ApiResponse.fail(message));
+    }
+
+    public boolean cancel() {
+        boolean cancelled = complete(JobStatus.CANCELLED, 409, ApiResponse.fail("Job cancelled"));
+        if (cancelled && future != null) {
+            future.cancel(true);
+        }
+        return cancelled;
+    }
+
+    private boolean complete(JobStatus terminal, int httpStatus, ApiResponse<?> result) {
+        synchronized (this) {
+            if (status.isDone()) {
+                return false;
+            }
+            this.httpStatus = httpStatus;
+            this.result = result;
+            this.completedAt = Instant.now();
+            this.worker = null;
+            this.status = terminal;
+        }
+        done.complete(this);
+        return true;
+    }
+
+    public void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    public Future<?> getFuture() {
+        return future;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public CompletableFuture<Job> getDone() {
+        return done;
+    }
+
+    public Thread getWorker() {
+        return worker;
+    }
+
+    public long getCpuStartNanos() {
+        return cpuStartNanos;
+    }
+
+    /** 실행 시작 시각 (System.nanoTime 기준) */
+    public long getStartedAtNanos() {
+        return startedAtNanos;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    public ApiResponse<?> getResult() {
+        return result;
+    }
+
+}
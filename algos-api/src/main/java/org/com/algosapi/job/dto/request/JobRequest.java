@@ -0,0 +1,31 @@
+package org.com.algosapi.job.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+
+public class JobRequest {
+
+    @NotNull(message = "op must not be null")
+    private AlgorithmOperation op;
+
+    // 단건 API 의 요청 본문과 같은 형태
+    @NotNull(message = "payload must not be null")
+    private JsonNode payload;
+
+    public JobRequest() {}
+
+    public JobRequest(AlgorithmOperation op, JsonNode payload) {
+        this.op = op;
+        this.payload = payload;
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    public JsonNode getPayload() {
+        return payload;
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.com.algosapi.job.dto.response;
+
+import java.time.Instant;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.common.api.ApiResponse;
+import org.com.algosapi.job.domain.Job;
+import org.com.algosapi.job.domain.JobStatus;
+
+public class JobResponse {
+
+    private final String id;
+    private final AlgorithmOperation op;
+    private final JobStatus status;
+    private final Instant createdAt;
+    private final Instant completedAt;
+    private final Integer httpStatus;           // 완료 후: 단건 API 였다면 받았을 HTTP 상태 코드
+    private final ApiResponse<?> result;        // 완료 후: 단건 API 와 같은 응답 본문
+
+    private JobResponse(Job job) {
+        this.id = job.getId();
+        this.op = job.getOp();
+        this.status = job.getStatus();
+        this.createdAt = job.getCreatedAt();
+        this.completedAt = job.getCompletedAt();
+        boolean done = status.isDone();
+        this.httpStatus = done ? job.getHttpStatus() : null;
+        this.result = done ? job.getResult() : null;
+    }
+
+    public static JobResponse from(Job job) {
+        return new JobResponse(job);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public AlgorithmOperation getOp() {
+        return op;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public Integer getHttpStatus() {
+        return httpStatus;
+    }
+
+    public ApiResponse<?> getResult() {
+        return result;
+    }
+
+}
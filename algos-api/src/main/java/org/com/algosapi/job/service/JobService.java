@@ -0,0 +1,22 @@
+package org.com.algosapi.job.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.com.algosapi.job.dto.request.JobRequest;
+import org.com.algosapi.job.dto.response.JobResponse;
+
+public interface JobService {
+
+    JobResponse submit(JobRequest request);
+
+    JobResponse get(String id);
+
+    /** long-poll 대기 시간을 maxWait 로 자른 값 - 음수면 INVALID_ARGUMENT */
+    Duration boundWait(Duration wait);
+
+    /** 완료되거나 wait(maxWait 로 자름)가 지나면 그 시점의 상태로 완료되는 future (long-poll) */
+    CompletableFuture<JobResponse> await(String id, Duration wait);
+
+    JobResponse cancel(String id);
+
+}
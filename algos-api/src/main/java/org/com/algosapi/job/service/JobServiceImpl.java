@@ -0,0 +1,164 @@
+package org.com.algosapi.job.service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.algorithm.service.AlgorithmOperationRunner;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.com.algosapi.job.domain.Job;
+import org.com.algosapi.job.domain.JobStatus;
+import org.com.algosapi.job.dto.request.JobRequest;
+import org.com.algosapi.job.dto.response.JobResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 큰 입력을 위한 비동기 작업 실행
+ * - 작업은 jobExecutor(고정 크기 풀 + 제한된 큐)에서 실행하고, 큐가 가득 차면 TOO_MANY_REQUESTS
+ * - 완료된 작업은 ttl 이 지나면 삭제한다.
+ * - 작업은 SequentialScope 로 실행 스레드에서만 계산한다 (병렬 엔진으로 넘기면 실행 스레드 CPU 시간에 잡히지 않음).
+ * - 실행 중인 작업의 스레드 CPU 시간이 cpuBudget 을 넘거나, 실행 시간이 maxRunTime 을 넘으면
+ *   INVALID_ARGUMENT 로 실패 처리하고 인터럽트한다.
+ *   (알고리즘 루프가 Cancellation 으로 인터럽트를 확인해 CancellationException 으로 빠져나오므로 스레드가 바로 반환된다)
+ */
+@Service
+public class JobServiceImpl implements JobService {
+
+    private final AlgorithmOperationRunner runner;
+    private final ExecutorService jobExecutor;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final Duration ttl;
+    private final long cpuBudgetNanos;
+    private final long maxRunTimeNanos;
+    private final Duration maxWait;
+
+    public JobServiceImpl(AlgorithmOperationRunner runner,
+                          @Qualifier("jobExecutor") ExecutorService jobExecutor,
+                          AlgorithmProperties properties) {
+        var job = properties.getJob();
+        this.runner = runner;
+        this.jobExecutor = jobExecutor;
+        this.ttl = job.getTtl();
+        this.cpuBudgetNanos = job.getCpuBudget().toNanos();
+        this.maxRunTimeNanos = job.getMaxRunTime().toNanos();
+        this.maxWait = job.getMaxWait();
+    }
+
+    @Override
+    public JobResponse submit(JobRequest request) {
+        // 바인딩/검증은 제출 시점에 해서 잘못된 요청은 바로 400 으로 돌려준다
+        Object algorithmRequest = runner.bind(request.getOp(), request.getPayload());
+
+        Job job = new Job(UUID.randomUUID().toString(), request.getOp());
+        jobs.put(job.getId(), job);
+        try {
+            job.attach(jobExecutor.submit(() -> run(job, algorithmRequest)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new DomainException(ErrorCode.TOO_MANY_REQUESTS, "Job queue is full");
+        }
+        return JobResponse.from(job);
+    }
+
+    @Override
+    public JobResponse get(String id) {
+        return JobResponse.from(find(id));
+    }
+
+    @Override
+    public Duration boundWait(Duration wait) {
+        if (wait.isNegative()) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "waitMillis must not be negative");
+        }
+        return wait.compareTo(maxWait) > 0 ? maxWait : wait;
+    }
+
+    @Override
+    public CompletableFuture<JobResponse> await(String id, Duration wait) {
+        Duration bounded = boundWait(wait);
+        Job job = find(id);
+        if (job.getStatus().isDone() || bounded.isZero()) {
+            return CompletableFuture.completedFuture(JobResponse.from(job));
+        }
+        return job.getDone().copy()
+            .completeOnTimeout(job, bounded.toMillis(), TimeUnit.MILLISECONDS)
+            .thenApply(JobResponse::from);
+    }
+
+    @Override
+    public JobResponse cancel(String id) {
+        Job job = find(id);
+        job.cancel();
+        return JobResponse.from(job);
+    }
+
+    private void run(Job job, Object algorithmRequest) {
+        if (!job.start(Thread.currentThread(), threadMXBean.getCurrentThreadCpuTime())) {
+            return;     // 실행 전에 취소됨
+        }
+        try {
+            job.succeed(runner.dispatchSequential(job.getOp(), algorithmRequest));
+        } catch (CancellationException e) {
+            job.cancel();       // 예산 초과/취소로 이미 끝난 상태면 그대로 둔다
+        } catch (DomainException e) {
+            var code = e.getErrorCode();
+            job.fail(code.getStatus(), code.getMessage() + ": " + e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(ErrorCode.INTERNAL_ERROR.getStatus(), "Unexpected error");
+        } finally {
+            Thread.interrupted();       // 예산 초과로 걸린 인터럽트가 다음 작업에 남지 않도록
+        }
+    }
+
+    @Scheduled(fixedDelay = 100)
+    public void enforceCpuBudget() {
+        for (Job job : jobs.values()) {
+            Thread worker = job.getWorker();
+            if (job.getStatus() != JobStatus.RUNNING || worker == null) {
+                continue;
+            }
+            long cpu = threadMXBean.getThreadCpuTime(worker.getId());
+            if (cpu >= 0 && cpu - job.getCpuStartNanos() > cpuBudgetNanos) {
+                abort(job, "CPU time budget exceeded (" + Duration.ofNanos(cpuBudgetNanos).toMillis() + "ms)");
+            } else if (System.nanoTime() - job.getStartedAtNanos() > maxRunTimeNanos) {
+                abort(job, "Run time limit exceeded (" + Duration.ofNanos(maxRunTimeNanos).toMillis() + "ms)");
+            }
+        }
+    }
+
+    private void abort(Job job, String reason) {
+        var code = ErrorCode.INVALID_ARGUMENT;
+        if (job.fail(code.getStatus(), code.getMessage() + ": " + reason) && job.getFuture() != null) {
+            job.getFuture().cancel(true);
+        }
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void expireJobs() {
+        Instant expiredBefore = Instant.now().minus(ttl);
+        jobs.values().removeIf(job -> job.getStatus().isDone() && job.getCompletedAt().isBefore(expiredBefore));
+    }
+
+    private Job find(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new DomainException(ErrorCode.NOT_FOUND, "Job not found: " + id);
+        }
+        return job;
+    }
+
+}
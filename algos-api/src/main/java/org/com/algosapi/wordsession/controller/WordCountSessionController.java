@@ -0,0 +1,52 @@
+package org.com.algosapi.wordsession.controller;
+
+import java.io.InputStream;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.com.algosapi.common.api.ApiResponse;
+import org.com.algosapi.wordsession.dto.response.WordCountSessionResponse;
+import org.com.algosapi.wordsession.service.WordCountSessionService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/word-frequency/sessions")
+public class WordCountSessionController {
+
+    private final WordCountSessionService sessionService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<WordCountSessionResponse>> create() {
+        WordCountSessionResponse session = sessionService.create();
+        return ResponseEntity.created(URI.create("/api/v1/word-frequency/sessions/" + session.getId()))
+            .body(ApiResponse.ok(session));
+    }
+
+    // 본문 = UTF-8 텍스트 조각 (조각 경계에 걸친 단어는 이어서 센다)
+    @PostMapping(value = "/{id}/chunks",
+        consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ApiResponse<WordCountSessionResponse> append(@PathVariable String id, InputStream body) {
+        return ApiResponse.ok(sessionService.append(id, body));
+    }
+
+    @GetMapping("/{id}")
+    public ApiResponse<WordCountSessionResponse> snapshot(@PathVariable String id,
+                                                          @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(sessionService.snapshot(id, limit));
+    }
+
+    @DeleteMapping("/{id}")
+    public ApiResponse<WordCountSessionResponse> close(@PathVariable String id,
+                                                       @RequestParam(required = false) Integer limit) {
+        return ApiResponse.ok(sessionService.close(id, limit));
+    }
+
+}
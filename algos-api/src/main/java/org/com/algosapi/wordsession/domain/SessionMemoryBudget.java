@@ -0,0 +1,38 @@
+package org.com.algosapi.wordsession.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 세션이 나눠 쓰는 메모리 예산
+ * - 세션은 사용량이 늘어난 만큼만 예약하고, 세션이 삭제될 때 예약한 만큼 반환한다.
+ */
+public class SessionMemoryBudget {
+
+    private final long capacity;
+    private final AtomicLong used = new AtomicLong();
+
+    public SessionMemoryBudget(long capacity) {
+        this.capacity = capacity;
+    }
+
+    public boolean tryReserve(long bytes) {
+        while (true) {
+            long current = used.get();
+            if (current + bytes > capacity) {
+                return false;
+            }
+            if (used.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long bytes) {
+        used.addAndGet(-bytes);
+    }
+
+    public long getUsed() {
+        return used.get();
+    }
+
+}
@@ -0,0 +1,166 @@
+package org.com.algosapi.wordsession.domain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.algorithm.wordcount.WordCountTable;
+import org.com.algosapi.algorithm.wordcount.WordScanner;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+
+/**
+ * 여러 번 나눠 들어오는 텍스트의 단어 빈도 세션
+ * - 조각마다 같은 스캐너/테이블을 이어 쓰므로 이전 텍스트를 다시 세지 않고, 조각 경계에 걸친 단어도 하나로 센다.
+ * - 마지막 조각 끝의 단어는 다음 조각에서 이어질 수 있으므로 닫기 전까지 스냅샷에 포함하지 않는다.
+ * - 조각 추가끼리는 appendLock 으로 직렬화된다 (조각 순서는 도착 순서).
+ *   네트워크 읽기는 상태 잠금 밖에서 하고, 읽은 청크를 합칠 때만 상태 잠금을 잡으므로 느린 클라이언트가 스냅샷을 막지 않는다.
+ * - 메모리 사용량은 집계 테이블 + 스캐너의 단어 버퍼이고, 한 단어는 maxWordBytes 를 넘을 수 없다.
+ * - 늘어난 사용량은 전체 세션 공용 예산(SessionMemoryBudget)에서 예약하고, releaseMemory() 에서 반환한다.
+ */
+public class WordCountSession {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final String id;
+    private final long maxMemoryBytes;
+    private final SessionMemoryBudget budget;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Instant createdAt = Instant.now();
+    private final WordCountTable table = new WordCountTable();
+    private final WordScanner scanner;
+
+    private volatile Instant lastAccessAt = createdAt;
+    private int chunks;
+    private long appendedBytes;
+    private boolean closed;
+    private long reservedBytes;
+
+    public WordCountSession(String id, long maxMemoryBytes, int maxWordBytes, SessionMemoryBudget budget) {
+        this.id = id;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.budget = budget;
+        this.scanner = new WordScanner(table, maxWordBytes);
+    }
+
+    /**
+     * 메모리/단어 길이 상한을 넘으면 세션을 닫고 INVALID_ARGUMENT, 공용 예산이 모자라면 세션을 닫고 TOO_MANY_REQUESTS
+     * (이미 반영된 조각 일부는 되돌리지 않는다 - 읽기 실패(IOException)도 호출 쪽에서 세션을 닫는다)
+     */
+    public void append(InputStream in) throws IOException {
+        appendLock.lock();
+        try {
+            touch();
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                merge(chunk, read);
+            }
+            synchronized (this) {
+                chunks++;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private synchronized void touch() {
+        ensureOpen();
+        lastAccessAt = Instant.now();
+    }
+
+    private synchronized void merge(byte[] chunk, int length) {
+        ensureOpen();
+        lastAccessAt = Instant.now();
+        try {
+            scanner.accept(chunk, 0, length);
+        } catch (IllegalArgumentException e) {
+            closed = true;
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, e.getMessage() + ", session closed");
+        }
+        appendedBytes += length;
+
+        long memory = memoryBytes();
+        if (memory > maxMemoryBytes) {
+            closed = true;
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT,
+                "Session memory limit exceeded (" + maxMemoryBytes + " bytes), session closed");
+        }
+        if (memory > reservedBytes) {
+            if (!budget.tryReserve(memory - reservedBytes)) {
+                closed = true;
+                throw new DomainException(ErrorCode.TOO_MANY_REQUESTS,
+                    "Session memory pool exhausted, session closed");
+            }
+            reservedBytes = memory;
+        }
+    }
+
+    /** limit 이 null 이면 전체, 아니면 상위 limit 개 */
+    public synchronized List<WordCount> snapshot(Integer limit) {
+        ensureOpen();
+        lastAccessAt = Instant.now();
+        return top(limit);
+    }
+
+    /** 남은 단어까지 세고 닫는다 */
+    public synchronized List<WordCount> close(Integer limit) {
+        ensureOpen();
+        lastAccessAt = Instant.now();
+        scanner.finish();
+        closed = true;
+        return top(limit);
+    }
+
+    /** 세션을 닫고 예약한 메모리를 공용 예산에 돌려준다 (세션을 목록에서 뺄 때 한 번 호출) */
+    public synchronized void releaseMemory() {
+        closed = true;
+        budget.release(reservedBytes);
+        reservedBytes = 0;
+    }
+
+    private long memoryBytes() {
+        return table.memoryBytes() + scanner.bufferBytes();
+    }
+
+    private List<WordCount> top(Integer limit) {
+        return limit == null ? table.toWordCounts() : table.topWordCounts(limit);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new DomainException(ErrorCode.NOT_FOUND, "Session closed: " + id);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getLastAccessAt() {
+        return lastAccessAt;
+    }
+
+    public synchronized int getChunks() {
+        return chunks;
+    }
+
+    public synchronized long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    public synchronized int getDistinctWords() {
+        return table.size();
+    }
+
+    public synchronized long getMemoryBytes() {
+        return memoryBytes();
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.com.algosapi.wordsession.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.wordsession.domain.WordCountSession;
+
+public class WordCountSessionResponse {
+
+    private final String id;
+    private final Instant createdAt;
+    private final Instant lastAccessAt;
+    private final int chunks;
+    private final long appendedBytes;
+    private final int distinctWords;
+    private final long memoryBytes;
+    private final List<WordCount> frequencies;      // 스냅샷/닫기 응답에만 포함
+
+    private WordCountSessionResponse(WordCountSession session, List<WordCount> frequencies) {
+        this.id = session.getId();
+        this.createdAt = session.getCreatedAt();
+        this.lastAccessAt = session.getLastAccessAt();
+        this.chunks = session.getChunks();
+        this.appendedBytes = session.getAppendedBytes();
+        this.distinctWords = session.getDistinctWords();
+        this.memoryBytes = session.getMemoryBytes();
+        this.frequencies = frequencies;
+    }
+
+    public static WordCountSessionResponse from(WordCountSession session) {
+        return new WordCountSessionResponse(session, null);
+    }
+
+    public static WordCountSessionResponse from(WordCountSession session, List<WordCount> frequencies) {
+        return new WordCountSessionResponse(session, frequencies);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getLastAccessAt() {
+        return lastAccessAt;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    public int getDistinctWords() {
+        return distinctWords;
+    }
+
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public List<WordCount> getFrequencies() {
+        return frequencies;
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.com.algosapi.wordsession.service;
+
+import java.io.InputStream;
+import org.com.algosapi.wordsession.dto.response.WordCountSessionResponse;
+
+public interface WordCountSessionService {
+
+    WordCountSessionResponse create();
+
+    WordCountSessionResponse append(String id, InputStream chunk);
+
+    /** 현재까지 끝난 단어 기준 상위 limit 개 (null 이면 전체) */
+    WordCountSessionResponse snapshot(String id, Integer limit);
+
+    /** 마지막 단어까지 센 최종 결과를 반환하고 세션을 삭제 */
+    WordCountSessionResponse close(String id, Integer limit);
+
+}
@@ -0,0 +1,132 @@
+package org.com.algosapi.wordsession.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import org.com.algosapi.algorithm.entity.WordCount;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.com.algosapi.wordsession.domain.SessionMemoryBudget;
+import org.com.algosapi.wordsession.domain.WordCountSession;
+import org.com.algosapi.wordsession.dto.response.WordCountSessionResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 단어 빈도 세션 관리
+ * - 열린 세션 수가 maxSessions 에 이르면 TOO_MANY_REQUESTS (세션 슬롯은 Semaphore 로 생성 전에 확보한다)
+ * - 모든 세션의 메모리 합이 maxTotalMemoryBytes 를 넘으면 늘리려던 세션을 닫고 TOO_MANY_REQUESTS
+ * - 세션 메모리가 maxMemoryBytes 를 넘거나 단어가 maxWordBytes 보다 길면 세션을 닫고 INVALID_ARGUMENT
+ * - 조각을 읽다가 끊기면(IOException) 일부만 반영된 세션을 닫고 INVALID_ARGUMENT (재전송해도 이중으로 세지 않게)
+ * - idleTimeout 동안 접근이 없는 세션은 삭제한다.
+ */
+@Service
+public class WordCountSessionServiceImpl implements WordCountSessionService {
+
+    private final Map<String, WordCountSession> sessions = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final SessionMemoryBudget memoryBudget;
+
+    private final long maxMemoryBytes;
+    private final int maxWordBytes;
+    private final Duration idleTimeout;
+
+    public WordCountSessionServiceImpl(AlgorithmProperties properties) {
+        var session = properties.getSession();
+        this.slots = new Semaphore(session.getMaxSessions());
+        this.memoryBudget = new SessionMemoryBudget(session.getMaxTotalMemoryBytes());
+        this.maxMemoryBytes = session.getMaxMemoryBytes();
+        this.maxWordBytes = session.getMaxWordBytes();
+        this.idleTimeout = session.getIdleTimeout();
+    }
+
+    @Override
+    public WordCountSessionResponse create() {
+        if (!slots.tryAcquire()) {
+            throw new DomainException(ErrorCode.TOO_MANY_REQUESTS, "Too many open sessions");
+        }
+        WordCountSession session =
+            new WordCountSession(UUID.randomUUID().toString(), maxMemoryBytes, maxWordBytes, memoryBudget);
+        sessions.put(session.getId(), session);
+        return WordCountSessionResponse.from(session);
+    }
+
+    @Override
+    public WordCountSessionResponse append(String id, InputStream chunk) {
+        WordCountSession session = find(id);
+        try {
+            session.append(chunk);
+        } catch (DomainException e) {
+            discard(session);
+            throw e;
+        } catch (IOException e) {
+            discard(session);
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "Failed to read chunk, session closed");
+        }
+        return WordCountSessionResponse.from(session);
+    }
+
+    @Override
+    public WordCountSessionResponse snapshot(String id, Integer limit) {
+        validate(limit);
+        WordCountSession session = find(id);
+        return WordCountSessionResponse.from(session, session.snapshot(limit));
+    }
+
+    @Override
+    public WordCountSessionResponse close(String id, Integer limit) {
+        validate(limit);
+        WordCountSession session = find(id);
+        List<WordCount> frequencies;
+        try {
+            frequencies = session.close(limit);
+        } finally {
+            discard(session);
+        }
+        return WordCountSessionResponse.from(session, frequencies);
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void expireSessions() {
+        Instant idleBefore = Instant.now().minus(idleTimeout);
+        for (WordCountSession session : sessions.values()) {
+            if (session.getLastAccessAt().isBefore(idleBefore)) {
+                discard(session);
+            }
+        }
+    }
+
+    long usedMemoryBytes() {
+        return memoryBudget.getUsed();
+    }
+
+    // 목록에서 빠지는 쪽이 한 번만 슬롯과 메모리를 반환한다
+    private void discard(WordCountSession session) {
+        if (sessions.remove(session.getId(), session)) {
+            session.releaseMemory();
+            slots.release();
+        }
+    }
+
+    private WordCountSession find(String id) {
+        WordCountSession session = sessions.get(id);
+        if (session == null) {
+            throw new DomainException(ErrorCode.NOT_FOUND, "Session not found: " + id);
+        }
+        return session;
+    }
+
+    private void validate(Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new DomainException(ErrorCode.INVALID_ARGUMENT, "limit must be positive");
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.com.algosapi.algorithm.collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntIntMapTest {
+
+    @Test
+    void put_get_ok() {
+        var map = new IntIntMap();
+        map.put(0, 10);
+        map.put(-1, 20);
+        map.put(Integer.MIN_VALUE, 30);
+
+        assertEquals(10, map.get(0, -1));
+        assertEquals(20, map.get(-1, -1));
+        assertEquals(30, map.get(Integer.MIN_VALUE, -1));
+        assertEquals(-1, map.get(42, -1));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void matches_hash_map_after_rehash() {
+        var map = new IntIntMap(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        var random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(50_000) - 25_000;
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key, -1)));
+        assertFalse(map.containsKey(25_001));
+    }
+
+}
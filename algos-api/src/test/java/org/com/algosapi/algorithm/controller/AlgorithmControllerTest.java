@@ -1,21 +1,35 @@
 package org.com.algosapi.algorithm.controller;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import org.com.algosapi.algorithm.cache.ResultCache;
 import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
 import org.com.algosapi.algorithm.dto.response.ReverseStringResponse;
+import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.com.algosapi.algorithm.entity.WordCount;
 import org.com.algosapi.algorithm.service.AlgorithmService;
+import org.com.algosapi.algorithm.service.BatchService;
+import org.com.algosapi.common.codec.NdjsonWriter;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(controllers = AlgorithmController.class)
+@Import(NdjsonWriter.class)
 class AlgorithmControllerTest {
 
     @Autowired
@@ -27,6 +41,12 @@ class AlgorithmControllerTest {
     @MockitoBean
     AlgorithmService service;
 
+    @MockitoBean
+    BatchService batchService;
+
+    @MockitoBean
+    ResultCache resultCache;
+
     @Test
     void reverse_ok() throws Exception {
         Mockito.when(service.reverse(Mockito.any(ReverseStringRequest.class)))
@@ -40,4 +60,65 @@ class AlgorithmControllerTest {
             .andExpect(jsonPath("$.data.reversed").value("dcba"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void unique_sort_binary_round_trip() throws Exception {
+        Mockito.when(service.uniqueSort(Mockito.argThat((UniqueSortRequest r) -> r.getNumbers().length == 3 && r.getNumbers()[0] == -7)))
+            .thenReturn(new UniqueSortResponse(new int[]{-7, 3}));
+
+        mockMvc.perform(post("/api/v1/algorithms/unique-sort")
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .accept(MediaType.APPLICATION_OCTET_STREAM)
+            .content(littleEndian(-7, 3, 3)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+            .andExpect(content().bytes(littleEndian(-7, 3)));
+    }
+
+    @Test
+    void unique_sort_binary_rejects_partial_int() throws Exception {
+        mockMvc.perform(post("/api/v1/algorithms/unique-sort")
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .accept(MediaType.APPLICATION_JSON)
+            .content(new byte[]{1, 0, 0}))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void word_frequency_ndjson_streams_one_entry_per_line() throws Exception {
+        Mockito.when(service.wordFrequency(Mockito.any(WordFrequencyRequest.class)))
+            .thenReturn(new WordFrequencyResponse(List.of(new WordCount("a", 2), new WordCount("b", 1))));
+
+        var result = mockMvc.perform(post("/api/v1/algorithms/word-frequency")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(NdjsonWriter.APPLICATION_NDJSON)
+            .content("{\"text\":\"a a b\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(NdjsonWriter.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"word\":\"a\",\"count\":2}\n{\"word\":\"b\",\"count\":1}\n"));
+    }
+
+    @Test
+    void unique_sort_defaults_to_json_envelope() throws Exception {
+        Mockito.when(service.uniqueSort(Mockito.any(UniqueSortRequest.class)))
+            .thenReturn(new UniqueSortResponse(new int[]{1, 2}));
+
+        mockMvc.perform(post("/api/v1/algorithms/unique-sort")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.ALL)
+            .content("{\"numbers\":[2,1,2]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.numbers[1]").value(2));
+    }
+
+    private static byte[] littleEndian(int... values) {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buf.asIntBuffer().put(values);
+        return buf.array();
+    }
+
+}
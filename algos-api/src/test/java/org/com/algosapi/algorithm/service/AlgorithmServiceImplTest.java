@@ -2,12 +2,23 @@ package org.com.algosapi.algorithm.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import org.com.algosapi.algorithm.dto.request.ReverseStringRequest;
 import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
 import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
 import org.com.algosapi.algorithm.dto.request.ValidParenthesesRequest;
 import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.wordcount.WordCountEngine;
 import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -21,12 +32,178 @@ class AlgorithmServiceImplTest {
         assertEquals("dcba", res.getReversed());
     }
 
+    @Test
+    void reverse_keeps_grapheme_clusters() {
+        // e + 결합 악센트, 서로게이트 쌍 이모지
+        var res = service.reverse(new ReverseStringRequest("ae\u0301\uD83D\uDC4Db"));
+        assertEquals("b\uD83D\uDC4De\u0301a", res.getReversed());
+    }
+
+    @Test
+    void reverse_stream_spills_blocks_and_matches_in_memory() {
+        var properties = new AlgorithmProperties();
+        properties.getReverse().setBlockSize(16);
+        var small = new AlgorithmServiceImpl(properties);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append("ab\u00e9e\u0301\uD83D\uDC4D").append(i);
+        }
+        String text = sb.toString();
+
+        var out = new ByteArrayOutputStream();
+        long chars = small.reverseStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), out);
+
+        assertEquals(text.length(), chars);
+        assertEquals(service.reverse(new ReverseStringRequest(text)).getReversed(), out.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     void word_frequency_ok() {
         var res = service.wordFrequency(new WordFrequencyRequest("Hello, hello world!"));
         assertEquals(2, res.getFrequencies().get(0).getCount());
     }
 
+    @Test
+    void word_frequency_stream_matches_text() {
+        String text = "It's a Test, it's only A TEST! \u212Aelvin kelvin \u00e9t\u00e9 12 12";
+        var expected = service.wordFrequency(new WordFrequencyRequest(text)).getFrequencies();
+        var actual = service.wordFrequencyStream(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), null).getFrequencies();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getWord(), actual.get(i).getWord());
+            assertEquals(expected.get(i).getCount(), actual.get(i).getCount());
+        }
+    }
+
+    @Test
+    void word_frequency_stream_rejects_word_longer_than_limit() {
+        var properties = new AlgorithmProperties();
+        properties.getWordFrequency().setMaxWordBytes(1024);
+        var limited = new AlgorithmServiceImpl(properties);
+
+        // 구분자 없는 50MB 본문 - 배열로 만들지 않고 스트림으로 흘린다
+        var body = new InputStream() {
+            long remaining = 50L * 1024 * 1024;
+
+            @Override
+            public int read() {
+                return remaining-- > 0 ? 'a' : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int n = (int) Math.min(len, remaining);
+                Arrays.fill(b, off, off + n, (byte) 'a');
+                remaining -= n;
+                return n;
+            }
+        };
+
+        var ex = assertThrows(DomainException.class, () -> limited.wordFrequencyStream(body, null));
+        assertEquals(ErrorCode.INVALID_ARGUMENT, ex.getErrorCode());
+        // 상한을 넘는 즉시 멈춘다 (입력을 끝까지 읽지 않음)
+        assertTrue(body.remaining > 40L * 1024 * 1024);
+
+        var ok = limited.wordFrequencyStream(new ByteArrayInputStream(
+            ("b".repeat(1024) + " c").getBytes(StandardCharsets.UTF_8)), null).getFrequencies();
+        assertEquals(2, ok.size());
+    }
+
+    @Test
+    void word_frequency_parallel_matches_sequential() {
+        var properties = new AlgorithmProperties();
+        properties.getWordFrequency().setParallelThreshold(1);
+        var parallelService = new AlgorithmServiceImpl(properties);
+
+        var sb = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            sb.append("Word").append(i % 977).append(i % 3 == 0 ? ", " : " it's ");
+        }
+        var request = new WordFrequencyRequest(sb.toString());
+
+        var expected = service.wordFrequency(request);
+        var actual = parallelService.wordFrequency(request);
+
+        assertEquals(WordCountEngine.SEQUENTIAL, expected.getEngine());
+        assertEquals(WordCountEngine.PARALLEL, actual.getEngine());
+        assertEquals(expected.getFrequencies().size(), actual.getFrequencies().size());
+        for (int i = 0; i < expected.getFrequencies().size(); i++) {
+            assertEquals(expected.getFrequencies().get(i).getWord(), actual.getFrequencies().get(i).getWord());
+            assertEquals(expected.getFrequencies().get(i).getCount(), actual.getFrequencies().get(i).getCount());
+        }
+    }
+
+    @Test
+    void word_frequency_top_k() {
+        var text = "a a a a b b b c c d e e e e f";
+        var res = service.wordFrequency(new WordFrequencyRequest(text, 3, false)).getFrequencies();
+
+        assertEquals(3, res.size());
+        assertEquals("a", res.get(0).getWord());
+        assertEquals("e", res.get(1).getWord());
+        assertEquals("b", res.get(2).getWord());
+    }
+
+    @Test
+    void word_frequency_visits_ranked_entries_from_table() throws Exception {
+        var res = service.wordFrequency(new WordFrequencyRequest("b a b c a b d"));
+        var visited = new ArrayList<String>();
+        res.forEachFrequency((word, off, len, count) ->
+            visited.add(new String(word, off, len, StandardCharsets.US_ASCII) + "=" + count));
+
+        assertEquals(List.of("b=3", "a=2", "c=1", "d=1"), visited);
+        assertEquals(4, res.size());
+        assertEquals("b", res.getFrequencies().get(0).getWord());
+    }
+
+    @Test
+    void word_frequency_approximate_top_k() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            sb.append("noise").append(i).append(' ');
+            if (i % 10 == 0) {
+                sb.append("hot ");
+            }
+        }
+        var res = service.wordFrequency(new WordFrequencyRequest(sb.toString(), 1, true));
+
+        assertEquals(WordCountEngine.APPROXIMATE, res.getEngine());
+        assertEquals("hot", res.getFrequencies().get(0).getWord());
+        assertTrue(res.getFrequencies().get(0).getCount() >= 2_000);
+    }
+
+    @Test
+    void word_frequency_approximate_requires_limit() {
+        assertThrows(DomainException.class, () ->
+            service.wordFrequency(new WordFrequencyRequest("a b", null, true))
+        );
+    }
+
+    @Test
+    void word_frequency_approximate_rejects_non_positive_limit() {
+        assertThrows(DomainException.class, () ->
+            service.wordFrequency(new WordFrequencyRequest("a b", 0, true))
+        );
+    }
+
+    @Test
+    void word_frequency_approximate_clamps_limit() {
+        var properties = new AlgorithmProperties();
+        properties.getWordFrequency().setMaxTopK(2);
+        var clamped = new AlgorithmServiceImpl(properties);
+
+        var res = clamped.wordFrequency(new WordFrequencyRequest("a a a b b c", Integer.MAX_VALUE, true));
+
+        assertEquals(2, res.getFrequencies().size());
+        assertEquals("a", res.getFrequencies().get(0).getWord());
+        assertEquals("b", res.getFrequencies().get(1).getWord());
+    }
+
     @Test
     void two_sum_ok() {
         var res = service.twoSum(new TwoSumRequest(new int[]{2, 7, 11, 15}, 9));
@@ -41,16 +218,81 @@ class AlgorithmServiceImplTest {
         );
     }
 
+    @Test
+    void two_sum_sorted_ok() {
+        var res = service.twoSum(new TwoSumRequest(new int[]{-4, 1, 3, 8, 12}, 11, true));
+        assertEquals(2, res.getIndex1());
+        assertEquals(3, res.getIndex2());
+    }
+
+    @Test
+    void two_sum_sorted_flag_ignored_for_unsorted_input() {
+        var res = service.twoSum(new TwoSumRequest(new int[]{11, 2, 7, 15}, 9, true));
+        assertEquals(1, res.getIndex1());
+        assertEquals(2, res.getIndex2());
+    }
+
     @Test
     void unique_sort_ok() {
         var res = service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 2, 3, 2}));
         assertArrayEquals(new int[]{1, 2, 3}, res.getNumbers());
     }
 
+    @Test
+    void unique_sort_matches_stream_for_every_strategy() {
+        var random = new Random(11);
+        int[][] inputs = {
+            {},
+            {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 0},
+            random.ints(1_000, -50, 50).toArray(),                               // bitset
+            random.ints(10_000).toArray(),                                      // radix
+            random.ints(10_000, -1_000_000_000, 1_000_000_000).map(v -> v / 7).toArray(),
+        };
+        for (int[] input : inputs) {
+            int[] expected = Arrays.stream(input).distinct().sorted().toArray();
+            var res = service.uniqueSort(new UniqueSortRequest(input.clone()));
+            assertArrayEquals(expected, res.getNumbers());
+        }
+    }
+
     @Test
     void valid_parentheses_ok() {
         var res = service.validParentheses(new ValidParenthesesRequest("([]){}"));
         assertTrue(res.isValid());
+        assertEquals(-1, res.getMismatchIndex());
+        assertEquals(2, res.getMaxDepth());
+    }
+
+    @Test
+    void valid_parentheses_reports_first_mismatch() {
+        var mismatch = service.validParentheses(new ValidParenthesesRequest("(a[b)c]"));
+        assertFalse(mismatch.isValid());
+        assertEquals(4, mismatch.getMismatchIndex());
+
+        var unclosed = service.validParentheses(new ValidParenthesesRequest("(()x"));
+        assertFalse(unclosed.isValid());
+        assertEquals(4, unclosed.getMismatchIndex());
+    }
+
+    @Test
+    void valid_parentheses_deep_nesting() {
+        int depth = 1_000_000;
+        var res = service.validParentheses(new ValidParenthesesRequest("(".repeat(depth) + ")".repeat(depth)));
+        assertTrue(res.isValid());
+        assertEquals(depth, res.getMaxDepth());
+
+        // 남은 문자로 닫을 수 없는 깊이에서 바로 중단
+        var impossible = service.validParentheses(new ValidParenthesesRequest("(".repeat(depth) + ")"));
+        assertFalse(impossible.isValid());
+        assertEquals(depth / 2 + 1, impossible.getMismatchIndex());
+    }
+
+    @Test
+    void valid_parentheses_custom_pairs() {
+        assertTrue(service.validParentheses(new ValidParenthesesRequest("<(>)", "<>")).isValid());
+        assertFalse(service.validParentheses(new ValidParenthesesRequest("<(>)", "<>()")).isValid());
+        assertThrows(DomainException.class,
+            () -> service.validParentheses(new ValidParenthesesRequest("()", "(()")));
     }
 
 }
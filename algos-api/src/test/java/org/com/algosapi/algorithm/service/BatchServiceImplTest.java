@@ -0,0 +1,74 @@
+package org.com.algosapi.algorithm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.BatchOperation;
+import org.com.algosapi.algorithm.dto.request.BatchRequest;
+import org.com.algosapi.algorithm.dto.response.TwoSumResponse;
+import org.com.algosapi.algorithm.dto.response.ValidParenthesesResponse;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BatchServiceImplTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AlgorithmOperationRunner runner = new AlgorithmOperationRunner(
+        new AlgorithmServiceImpl(), om, Validation.buildDefaultValidatorFactory().getValidator());
+    private final BatchServiceImpl batchService = new BatchServiceImpl(runner, executor, new AlgorithmProperties());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void batch_keeps_order_and_isolates_failures() throws Exception {
+        var res = batchService.execute(new BatchRequest(List.of(
+            op(AlgorithmOperation.TWO_SUM, "{\"numbers\":[2,7,11,15],\"target\":9}"),
+            op(AlgorithmOperation.TWO_SUM, "{\"numbers\":[1,2,3],\"target\":100}"),
+            op(AlgorithmOperation.VALID_PARENTHESES, "{\"str\":\"\"}"),
+            op(AlgorithmOperation.VALID_PARENTHESES, "{\"str\":\"([]){}\"}")
+        )));
+
+        assertEquals(2, res.getSucceeded());
+        assertEquals(2, res.getFailed());
+
+        var results = res.getResults();
+        assertEquals(1, ((TwoSumResponse) results.get(0).getData()).getIndex2());
+        assertEquals(404, results.get(1).getStatus());
+        assertEquals(400, results.get(2).getStatus());
+        assertTrue(((ValidParenthesesResponse) results.get(3).getData()).isValid());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+    }
+
+    @Test
+    void batch_rejects_too_many_operations() throws Exception {
+        var properties = new AlgorithmProperties();
+        properties.getBatch().setMaxOperations(2);
+        var limited = new BatchServiceImpl(runner, executor, properties);
+
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            operations.add(op(AlgorithmOperation.REVERSE, "{\"text\":\"abc\"}"));
+        }
+
+        assertThrows(DomainException.class, () -> limited.execute(new BatchRequest(operations)));
+    }
+
+    private BatchOperation op(AlgorithmOperation type, String payload) throws Exception {
+        return new BatchOperation(type, om.readTree(payload));
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.com.algosapi.algorithm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.junit.jupiter.api.Test;
+
+class CachingAlgorithmServiceTest {
+
+    private final AlgorithmServiceImpl delegate = spy(new AlgorithmServiceImpl());
+
+    @Test
+    void same_input_hits_cache() {
+        var cache = new ResultCache(new AlgorithmProperties());
+        var service = new CachingAlgorithmService(delegate, cache);
+
+        var first = service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 2, 3}));
+        var second = service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 2, 3}));
+        service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 2}));
+
+        assertSame(first, second);
+        verify(delegate, times(2)).uniqueSort(any());
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(2, cache.stats().getMissCount());
+    }
+
+    @Test
+    void disabled_operation_is_not_cached() {
+        var cache = new ResultCache(new AlgorithmProperties());
+        var service = new CachingAlgorithmService(delegate, cache);
+
+        assertFalse(cache.isEnabled(AlgorithmOperation.TWO_SUM));
+        service.twoSum(new TwoSumRequest(new int[]{2, 7}, 9));
+        service.twoSum(new TwoSumRequest(new int[]{2, 7}, 9));
+
+        verify(delegate, times(2)).twoSum(any());
+    }
+
+    @Test
+    void oversized_entry_is_not_cached() {
+        var properties = new AlgorithmProperties();
+        properties.getCache().setMaxEntryWeight(64);
+        var service = new CachingAlgorithmService(delegate, new ResultCache(properties));
+
+        int[] large = new int[100];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i;
+        }
+        service.uniqueSort(new UniqueSortRequest(large));
+        service.uniqueSort(new UniqueSortRequest(large));
+
+        verify(delegate, times(2)).uniqueSort(any());
+    }
+
+}
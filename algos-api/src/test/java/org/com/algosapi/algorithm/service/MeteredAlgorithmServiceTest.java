@@ -0,0 +1,56 @@
+package org.com.algosapi.algorithm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.com.algosapi.algorithm.dto.request.TwoSumRequest;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.junit.jupiter.api.Test;
+
+class MeteredAlgorithmServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AlgorithmProperties properties = new AlgorithmProperties();
+    private final MeteredAlgorithmService service = new MeteredAlgorithmService(
+        new OffloadingAlgorithmService(
+            new CachingAlgorithmService(new AlgorithmServiceImpl(), new ResultCache(properties)),
+            Executors.newSingleThreadExecutor(), properties),
+        registry);
+
+    @Test
+    void records_latency_and_sizes_per_operation() {
+        service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 3, 2}));
+
+        var timer = registry.get(MeteredAlgorithmService.CALLS)
+            .tag("operation", "unique-sort").tag("outcome", "success").timer();
+        assertEquals(1, timer.count());
+        assertEquals(4, registry.get(MeteredAlgorithmService.INPUT_SIZE).tag("operation", "unique-sort").summary().totalAmount());
+        assertEquals(3, registry.get(MeteredAlgorithmService.OUTPUT_SIZE).tag("operation", "unique-sort").summary().totalAmount());
+    }
+
+    @Test
+    void counts_domain_errors_by_code() {
+        assertThrows(DomainException.class, () -> service.twoSum(new TwoSumRequest(new int[]{1, 2}, 100)));
+
+        assertEquals(1, registry.get(MeteredAlgorithmService.ERRORS)
+            .tag("operation", "two-sum").tag("code", "NOT_FOUND").counter().count());
+        assertEquals(1, registry.get(MeteredAlgorithmService.CALLS)
+            .tag("operation", "two-sum").tag("outcome", "NOT_FOUND").timer().count());
+    }
+
+    @Test
+    void stream_input_size_is_bytes_read() {
+        byte[] body = "a b a".getBytes(StandardCharsets.UTF_8);
+        service.wordFrequencyStream(new ByteArrayInputStream(body), null);
+
+        assertEquals(body.length, registry.get(MeteredAlgorithmService.INPUT_SIZE)
+            .tag("operation", "word-frequency-stream").summary().totalAmount());
+    }
+
+}
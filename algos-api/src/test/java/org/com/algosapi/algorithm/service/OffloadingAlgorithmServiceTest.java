@@ -0,0 +1,84 @@
+package org.com.algosapi.algorithm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.com.algosapi.algorithm.cache.ResultCache;
+import org.com.algosapi.algorithm.dto.request.UniqueSortRequest;
+import org.com.algosapi.algorithm.dto.response.UniqueSortResponse;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OffloadingAlgorithmServiceTest {
+
+    private final AlgorithmProperties properties = new AlgorithmProperties();
+    private final CachingAlgorithmService delegate =
+        spy(new CachingAlgorithmService(new AlgorithmServiceImpl(), new ResultCache(properties)));
+    private final ExecutorService cpuExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1), runnable -> new Thread(runnable, "cpu-test"));
+
+    @AfterEach
+    void tearDown() {
+        cpuExecutor.shutdownNow();
+    }
+
+    @Test
+    void large_input_on_virtual_thread_runs_on_cpu_pool() throws Exception {
+        properties.getExecution().setOffloadThreshold(4);
+        var service = new OffloadingAlgorithmService(delegate, cpuExecutor, properties);
+        AtomicReference<String> worker = new AtomicReference<>();
+        doAnswer(inv -> {
+            worker.set(Thread.currentThread().getName());
+            return inv.callRealMethod();
+        }).when(delegate).uniqueSort(any());
+
+        Thread.ofVirtual().start(() -> service.uniqueSort(new UniqueSortRequest(new int[]{3, 1, 2, 1}))).join();
+        assertEquals("cpu-test", worker.get());
+
+        // 작은 입력은 호출 스레드에서 바로 실행
+        Thread.ofVirtual().start(() -> service.uniqueSort(new UniqueSortRequest(new int[]{1}))).join();
+        assertNotEquals("cpu-test", worker.get());
+    }
+
+    @Test
+    void platform_thread_runs_inline() {
+        properties.getExecution().setOffloadThreshold(0);
+        var service = new OffloadingAlgorithmService(delegate, cpuExecutor, properties);
+
+        UniqueSortResponse res = service.uniqueSort(new UniqueSortRequest(new int[]{2, 1, 2}));
+        assertArrayEquals(new int[]{1, 2}, res.getNumbers());
+        assertEquals(0, ((ThreadPoolExecutor) cpuExecutor).getCompletedTaskCount());
+    }
+
+    @Test
+    void saturated_pool_is_too_many_requests() throws Exception {
+        properties.getExecution().setOffloadThreshold(0);
+        var service = new OffloadingAlgorithmService(delegate, cpuExecutor, properties);
+        var blocker = new CountDownLatch(1);
+        cpuExecutor.submit(() -> { blocker.await(); return null; });
+        cpuExecutor.submit(() -> null);     // 큐 한 칸 채움
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                service.uniqueSort(new UniqueSortRequest(new int[]{1}));
+            } catch (Throwable t) {
+                error.set(t);
+            }
+        }).join();
+        blocker.countDown();
+
+        assertInstanceOf(DomainException.class, error.get());
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, ((DomainException) error.get()).getErrorCode());
+    }
+
+}
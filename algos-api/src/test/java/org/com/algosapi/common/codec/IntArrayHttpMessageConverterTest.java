@@ -0,0 +1,58 @@
+package org.com.algosapi.common.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+class IntArrayHttpMessageConverterTest {
+
+    private final IntArrayHttpMessageConverter converter = new IntArrayHttpMessageConverter(64 * 1024);
+
+    @Test
+    void reads_body_larger_than_one_chunk() throws Exception {
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 31 - 5_000;
+        }
+        var message = new MockHttpInputMessage(littleEndian(values));
+
+        assertArrayEquals(values, converter.read(int[].class, message));
+    }
+
+    @Test
+    void declared_length_over_limit_is_rejected_before_reading() {
+        var message = new MockHttpInputMessage(littleEndian(1, 2));
+        message.getHeaders().setContentLength(8L * 1024 * 1024 * 1024);
+
+        var e = assertThrows(DomainException.class, () -> converter.read(int[].class, message));
+        assertEquals(ErrorCode.PAYLOAD_TOO_LARGE, e.getErrorCode());
+    }
+
+    @Test
+    void undeclared_body_over_limit_is_rejected() {
+        var message = new MockHttpInputMessage(new byte[64 * 1024 + 4]);
+
+        var e = assertThrows(DomainException.class, () -> converter.read(int[].class, message));
+        assertEquals(ErrorCode.PAYLOAD_TOO_LARGE, e.getErrorCode());
+    }
+
+    @Test
+    void declared_length_larger_than_body_returns_what_was_sent() throws Exception {
+        var message = new MockHttpInputMessage(littleEndian(7, -7));
+        message.getHeaders().setContentLength(32 * 1024);
+
+        assertArrayEquals(new int[]{7, -7}, converter.read(int[].class, message));
+    }
+
+    private static byte[] littleEndian(int... values) {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buf.asIntBuffer().put(values);
+        return buf.array();
+    }
+
+}
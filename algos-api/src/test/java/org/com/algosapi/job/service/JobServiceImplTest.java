@@ -0,0 +1,211 @@
+package org.com.algosapi.job.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.com.algosapi.algorithm.dto.request.AlgorithmOperation;
+import org.com.algosapi.algorithm.dto.request.WordFrequencyRequest;
+import org.com.algosapi.algorithm.dto.response.WordFrequencyResponse;
+import org.com.algosapi.algorithm.service.AlgorithmOperationRunner;
+import org.com.algosapi.algorithm.service.AlgorithmServiceImpl;
+import org.com.algosapi.algorithm.wordcount.WordCountEngine;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.com.algosapi.job.domain.JobStatus;
+import org.com.algosapi.job.dto.request.JobRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JobServiceImplTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AlgorithmOperationRunner runner = spy(new AlgorithmOperationRunner(
+        new AlgorithmServiceImpl(), om, Validation.buildDefaultValidatorFactory().getValidator()));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submit_and_long_poll() throws Exception {
+        var jobService = new JobServiceImpl(runner, executor, new AlgorithmProperties());
+
+        var submitted = jobService.submit(request("{\"numbers\":[3,1,2,3]}"));
+        var done = jobService.await(submitted.getId(), Duration.ofSeconds(5)).get();
+
+        assertEquals(JobStatus.SUCCEEDED, done.getStatus());
+        assertEquals(200, done.getHttpStatus());
+        assertTrue(done.getResult().isSuccess());
+    }
+
+    @Test
+    void long_poll_wait_is_bounded_by_max_wait() {
+        var jobService = new JobServiceImpl(runner, executor, new AlgorithmProperties());
+
+        assertEquals(Duration.ofSeconds(30), jobService.boundWait(Duration.ofMillis(Long.MAX_VALUE)));
+        assertEquals(Duration.ofMillis(500), jobService.boundWait(Duration.ofMillis(500)));
+        assertThrows(DomainException.class, () -> jobService.boundWait(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void invalid_payload_is_rejected_on_submit() {
+        var jobService = new JobServiceImpl(runner, executor, new AlgorithmProperties());
+
+        assertThrows(DomainException.class, () -> jobService.submit(request("{}")));
+    }
+
+    @Test
+    void cancel_running_job() throws Exception {
+        var started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            Thread.sleep(10_000);
+            return null;
+        }).when(runner).dispatch(any(), any());
+        var jobService = new JobServiceImpl(runner, executor, new AlgorithmProperties());
+
+        var submitted = jobService.submit(request("{\"numbers\":[1]}"));
+        started.await();
+        var cancelled = jobService.cancel(submitted.getId());
+
+        assertEquals(JobStatus.CANCELLED, cancelled.getStatus());
+        assertFalse(cancelled.getResult().isSuccess());
+    }
+
+    @Test
+    void cpu_budget_fails_job() throws Exception {
+        var started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            long x = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                x++;
+            }
+            return x;
+        }).when(runner).dispatch(any(), any());
+        var properties = new AlgorithmProperties();
+        properties.getJob().setCpuBudget(Duration.ofMillis(20));
+        var jobService = new JobServiceImpl(runner, executor, properties);
+
+        var submitted = jobService.submit(request("{\"numbers\":[1]}"));
+        started.await();
+        while (jobService.get(submitted.getId()).getStatus() == JobStatus.RUNNING) {
+            Thread.sleep(10);
+            jobService.enforceCpuBudget();
+        }
+
+        var failed = jobService.get(submitted.getId());
+        assertEquals(JobStatus.FAILED, failed.getStatus());
+        assertEquals(400, failed.getHttpStatus());
+    }
+
+    @Test
+    void cpu_budget_stops_running_algorithm() throws Exception {
+        var service = new AlgorithmServiceImpl();
+        var wordFrequency = new WordFrequencyRequest("lorem ipsum dolor ".repeat(10_000));
+        var started = new CountDownLatch(1);
+        var exited = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            try {
+                // 인터럽트는 알고리즘 루프만 확인한다 - 확인하지 않으면 이 루프는 끝나지 않는다
+                while (true) {
+                    service.wordFrequency(wordFrequency);
+                }
+            } finally {
+                exited.countDown();
+            }
+        }).when(runner).dispatch(any(), any());
+        var properties = new AlgorithmProperties();
+        properties.getJob().setCpuBudget(Duration.ofMillis(20));
+        var jobService = new JobServiceImpl(runner, executor, properties);
+
+        var submitted = jobService.submit(request("{\"numbers\":[1]}"));
+        started.await();
+        while (jobService.get(submitted.getId()).getStatus() == JobStatus.RUNNING) {
+            Thread.sleep(10);
+            jobService.enforceCpuBudget();
+        }
+
+        assertEquals(JobStatus.FAILED, jobService.get(submitted.getId()).getStatus());
+        assertTrue(exited.await(5, TimeUnit.SECONDS));
+
+        // 단일 스레드 풀의 슬롯이 풀려 다음 작업이 실행된다
+        doCallRealMethod().when(runner).dispatch(any(), any());
+        var next = jobService.submit(request("{\"numbers\":[3,1,2]}"));
+        assertEquals(JobStatus.SUCCEEDED, jobService.await(next.getId(), Duration.ofSeconds(5)).get().getStatus());
+    }
+
+    @Test
+    void cpu_budget_applies_to_input_above_parallel_threshold() throws Exception {
+        var properties = new AlgorithmProperties();
+        properties.getWordFrequency().setParallelThreshold(1_000);
+        properties.getJob().setCpuBudget(Duration.ofMillis(20));
+        var parallelRunner = spy(new AlgorithmOperationRunner(
+            new AlgorithmServiceImpl(properties), om, Validation.buildDefaultValidatorFactory().getValidator()));
+        var started = new CountDownLatch(1);
+        var engine = new AtomicReference<WordCountEngine>();
+        doAnswer(invocation -> {
+            started.countDown();
+            // 실제 실행 경로를 반복 - 병렬 엔진으로 넘어가면 실행 스레드 CPU 가 거의 늘지 않는다
+            while (true) {
+                engine.set(((WordFrequencyResponse) invocation.callRealMethod()).getEngine());
+            }
+        }).when(parallelRunner).dispatch(any(), any());
+        var jobService = new JobServiceImpl(parallelRunner, executor, properties);
+
+        var text = "lorem ipsum dolor ".repeat(10_000);
+        var submitted = jobService.submit(new JobRequest(AlgorithmOperation.WORD_FREQUENCY,
+            om.valueToTree(new WordFrequencyRequest(text))));
+        started.await();
+        while (jobService.get(submitted.getId()).getStatus() == JobStatus.RUNNING) {
+            Thread.sleep(10);
+            jobService.enforceCpuBudget();
+        }
+
+        var failed = jobService.get(submitted.getId());
+        assertEquals(JobStatus.FAILED, failed.getStatus());
+        assertTrue(failed.getResult().getMessage().contains("CPU time budget exceeded"));
+        assertEquals(WordCountEngine.SEQUENTIAL, engine.get());
+    }
+
+    @Test
+    void run_time_limit_fails_job_that_uses_no_cpu() throws Exception {
+        var started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            Thread.sleep(10_000);
+            return null;
+        }).when(runner).dispatch(any(), any());
+        var properties = new AlgorithmProperties();
+        properties.getJob().setMaxRunTime(Duration.ofMillis(50));
+        var jobService = new JobServiceImpl(runner, executor, properties);
+
+        var submitted = jobService.submit(request("{\"numbers\":[1]}"));
+        started.await();
+        while (jobService.get(submitted.getId()).getStatus() == JobStatus.RUNNING) {
+            Thread.sleep(10);
+            jobService.enforceCpuBudget();
+        }
+
+        var failed = jobService.get(submitted.getId());
+        assertEquals(JobStatus.FAILED, failed.getStatus());
+        assertTrue(failed.getResult().getMessage().contains("Run time limit exceeded"));
+    }
+
+    private JobRequest request(String payload) throws Exception {
+        return new JobRequest(AlgorithmOperation.UNIQUE_SORT, om.readTree(payload));
+    }
+
+}
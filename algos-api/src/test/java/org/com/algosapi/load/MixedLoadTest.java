@@ -0,0 +1,170 @@
+package org.com.algosapi.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.AlgosApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 큰 CPU 요청(unique-sort 2M 원소)과 아주 작은 요청(reverse)을 섞어 보내고 작은 요청의 지연 분포를 비교한다.
+ * - 플랫폼 스레드 모드와 가상 스레드 모드로 앱을 차례로 띄워 같은 부하를 주고, 두 모드의 결과를 한 표로 출력한다.
+ * - 데이터소스는 테스트 클래스패스의 H2(임베디드)로 뜬다.
+ */
+@Tag("load")
+class MixedLoadTest {
+
+    private static final Duration RUN_TIME = Duration.ofSeconds(15);
+    private static final int LARGE_SIZE = 2_000_000;
+    private static final int LARGE_CLIENTS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int TINY_CLIENTS = 16;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void tiny_request_p99_platform_vs_virtual_threads() throws Exception {
+        byte[] large = largeBody();
+        Result platform = run("platform", false, large);
+        Result virtual = run("virtual", true, large);
+
+        System.out.printf("%n== tiny reverse latency with %d concurrent large unique-sort clients ==%n", LARGE_CLIENTS);
+        System.out.printf("%-10s %8s %10s %10s %10s %8s %14s%n",
+            "mode", "tiny n", "p50(ms)", "p99(ms)", "max(ms)", "large n", "large p99(ms)");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %8d %10.1f %10.1f %10.1f %8d %14.1f%n", result.mode, result.tiny.length,
+                millis(result.tiny, 0.50), millis(result.tiny, 0.99), millis(result.tiny, 1.0),
+                result.large.length, millis(result.large, 0.99));
+        }
+        double platformP99 = millis(platform.tiny, 0.99);
+        double virtualP99 = millis(virtual.tiny, 0.99);
+        System.out.printf("tiny p99: platform %.1fms vs virtual %.1fms (%.2fx)%n",
+            platformP99, virtualP99, platformP99 / Math.max(virtualP99, 0.001));
+
+        assertTrue(platform.tiny.length > 0);
+        assertTrue(virtual.tiny.length > 0);
+    }
+
+    // 주어진 실행 모드로 앱을 임의 포트에 띄우고 RUN_TIME 동안 큰/작은 요청을 섞어 보낸다
+    private Result run(String mode, boolean virtualThreads, byte[] large) throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(AlgosApiApplication.class)
+            .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            long deadline = System.nanoTime() + RUN_TIME.toNanos();
+            ExecutorService clients = Executors.newFixedThreadPool(LARGE_CLIENTS + TINY_CLIENTS);
+            try {
+                List<Future<long[]>> largeRuns = new ArrayList<>();
+                for (int i = 0; i < LARGE_CLIENTS; i++) {
+                    largeRuns.add(clients.submit(() -> loop(deadline, largeRequest(port, large), 0)));
+                }
+                List<Future<long[]>> tinyRuns = new ArrayList<>();
+                for (int i = 0; i < TINY_CLIENTS; i++) {
+                    tinyRuns.add(clients.submit(() -> loop(deadline, tinyRequest(port), 5)));
+                }
+                return new Result(mode, merge(tinyRuns), merge(largeRuns));
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static final class Result {
+
+        final String mode;
+        final long[] tiny;
+        final long[] large;
+
+        Result(String mode, long[] tiny, long[] large) {
+            this.mode = mode;
+            this.tiny = tiny;
+            this.large = large;
+        }
+
+    }
+
+    // 응답 코드가 200 이 아니면 실패, 각 요청의 지연(ns)을 반환
+    private long[] loop(long deadline, HttpRequest request, long pauseMillis) throws Exception {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long elapsed = System.nanoTime() - start;
+            assertEquals(200, response.statusCode());
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count << 1);
+            }
+            latencies[count++] = elapsed;
+            if (pauseMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(pauseMillis);
+            }
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private HttpRequest largeRequest(int port, byte[] body) {
+        return HttpRequest.newBuilder(uri(port, "/api/v1/algorithms/unique-sort"))
+            .header("Content-Type", "application/octet-stream")
+            .header("Accept", "application/octet-stream")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    private HttpRequest tinyRequest(int port) {
+        return HttpRequest.newBuilder(uri(port, "/api/v1/algorithms/reverse"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"text\":\"abcd\"}"))
+            .build();
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] largeBody() {
+        ByteBuffer buf = ByteBuffer.allocate(LARGE_SIZE * 4).order(ByteOrder.LITTLE_ENDIAN);
+        Random random = new Random(42);
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            buf.putInt(random.nextInt());
+        }
+        return buf.array();
+    }
+
+    private static long[] merge(List<Future<long[]>> runs) throws Exception {
+        long[] all = new long[0];
+        for (Future<long[]> run : runs) {
+            long[] part = run.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + part.length);
+            System.arraycopy(part, 0, all, offset, part.length);
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,217 @@
+package org.com.algosapi.wordsession.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.com.algosapi.common.exception.DomainException;
+import org.com.algosapi.common.exception.ErrorCode;
+import org.com.algosapi.config.AlgorithmProperties;
+import org.junit.jupiter.api.Test;
+
+class WordCountSessionServiceImplTest {
+
+    private final AlgorithmProperties properties = new AlgorithmProperties();
+
+    @Test
+    void words_spanning_chunks_are_counted_once() {
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+
+        service.append(id, chunk("Hel"));
+        service.append(id, chunk("lo world hel"));
+        var snapshot = service.snapshot(id, null);
+        assertEquals(2, snapshot.getChunks());
+        assertEquals(2, snapshot.getFrequencies().size());      // 끝의 "hel" 은 아직 열려 있음
+
+        service.append(id, chunk("lo, world"));
+        var result = service.close(id, 1);
+        assertEquals(1, result.getFrequencies().size());
+        assertEquals("hello", result.getFrequencies().get(0).getWord());
+        assertEquals(2, result.getFrequencies().get(0).getCount());
+
+        var ex = assertThrows(DomainException.class, () -> service.snapshot(id, null));
+        assertEquals(ErrorCode.NOT_FOUND, ex.getErrorCode());
+    }
+
+    @Test
+    void memory_limit_closes_session() {
+        properties.getSession().setMaxMemoryBytes(4096);
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append("w").append(i).append(' ');
+        }
+        var ex = assertThrows(DomainException.class, () -> service.append(id, chunk(text.toString())));
+        assertEquals(ErrorCode.INVALID_ARGUMENT, ex.getErrorCode());
+        assertThrows(DomainException.class, () -> service.snapshot(id, null));
+    }
+
+    @Test
+    void word_without_separators_is_bounded() {
+        properties.getSession().setMaxWordBytes(1024);
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+
+        service.append(id, chunk("a".repeat(1000)));
+        assertTrue(service.snapshot(id, null).getMemoryBytes() >= 1000);     // 열린 단어 버퍼도 메모리에 포함
+
+        var ex = assertThrows(DomainException.class, () -> service.append(id, chunk("a".repeat(100))));
+        assertEquals(ErrorCode.INVALID_ARGUMENT, ex.getErrorCode());
+        assertThrows(DomainException.class, () -> service.snapshot(id, null));
+    }
+
+    @Test
+    void failed_read_closes_session_instead_of_keeping_partial_chunk() {
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+        service.append(id, chunk("hello "));
+        InputStream broken = new InputStream() {
+            private final InputStream head = chunk("world ".repeat(5_000));
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = head.read(b, off, len);
+                if (read != -1) {
+                    return read;
+                }
+                throw new IOException("connection reset");     // 업로드 도중 끊김
+            }
+        };
+
+        var ex = assertThrows(DomainException.class, () -> service.append(id, broken));
+        assertEquals(ErrorCode.INVALID_ARGUMENT, ex.getErrorCode());
+        var closed = assertThrows(DomainException.class, () -> service.snapshot(id, null));
+        assertEquals(ErrorCode.NOT_FOUND, closed.getErrorCode());
+        assertEquals(0, service.usedMemoryBytes());
+    }
+
+    @Test
+    void session_count_is_bounded_and_idle_sessions_expire() {
+        properties.getSession().setMaxSessions(1);
+        properties.getSession().setIdleTimeout(Duration.ZERO);
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+
+        var ex = assertThrows(DomainException.class, service::create);
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, ex.getErrorCode());
+
+        service.expireSessions();
+        assertThrows(DomainException.class, () -> service.snapshot(id, null));
+        assertNotNull(service.create().getId());
+    }
+
+    @Test
+    void concurrent_creates_do_not_exceed_session_cap() throws Exception {
+        properties.getSession().setMaxSessions(5);
+        var service = new WordCountSessionServiceImpl(properties);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        var start = new CountDownLatch(1);
+        var results = new ArrayList<Future<Boolean>>();
+        try {
+            for (int i = 0; i < 64; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        service.create();
+                        return true;
+                    } catch (DomainException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                created += result.get() ? 1 : 0;
+            }
+            assertEquals(5, created);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void total_memory_is_bounded_across_sessions() {
+        properties.getSession().setMaxTotalMemoryBytes(16 * 1024);
+        var service = new WordCountSessionServiceImpl(properties);
+        String small = service.create().getId();
+        service.append(small, chunk("a b "));
+        long reserved = service.usedMemoryBytes();
+        assertTrue(reserved > 0);
+
+        String large = service.create().getId();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append("w").append(i).append(' ');
+        }
+        var ex = assertThrows(DomainException.class, () -> service.append(large, chunk(text.toString())));
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, ex.getErrorCode());
+        assertEquals(reserved, service.usedMemoryBytes());      // 닫힌 세션의 예약은 반환됨
+
+        service.close(small, null);
+        assertEquals(0, service.usedMemoryBytes());
+    }
+
+    @Test
+    void snapshot_does_not_wait_for_slow_append() throws Exception {
+        var service = new WordCountSessionServiceImpl(properties);
+        String id = service.create().getId();
+        var firstChunkRead = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        InputStream slow = new InputStream() {
+            private final InputStream head = chunk("hello world ");
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = head.read(b, off, len);
+                if (read != -1) {
+                    return read;
+                }
+                firstChunkRead.countDown();
+                try {
+                    finish.await();     // 느린 클라이언트 - 다음 바이트가 아직 오지 않음
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+        };
+
+        var append = CompletableFuture.runAsync(() -> service.append(id, slow));
+        firstChunkRead.await();
+        var snapshot = CompletableFuture.supplyAsync(() -> service.snapshot(id, null)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, snapshot.getFrequencies().size());
+
+        finish.countDown();
+        append.get(5, TimeUnit.SECONDS);
+        assertEquals(1, service.snapshot(id, null).getChunks());
+    }
+
+    private static InputStream chunk(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
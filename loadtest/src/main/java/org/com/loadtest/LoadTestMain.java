@@ -0,0 +1,93 @@
+package org.com.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.com.loadtest.load.EndpointStats;
+import org.com.loadtest.load.LoadReport;
+import org.com.loadtest.load.OpenModelLoadGenerator;
+import org.com.loadtest.load.Scenario;
+import org.com.loadtest.standin.LocalStandIns;
+import org.com.loadtest.target.RunningApp;
+import org.com.loadtest.target.Target;
+
+/**
+ * 부하 테스트 진입점
+ * - 대상 앱을 로컬 대역(H2/Redis/Mongo)과 함께 같은 JVM 에 띄우고 열린 모델로 부하를 준다.
+ * - 인자: --target=algosApi --rate=200 --duration=30s --warmup=10s --out=build/loadtest
+ *         [--max-in-flight=10000] [--arrivals=poisson|uniform]
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Target target = Target.parse(require(options, "target"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "30s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        boolean poisson = !"uniform".equals(options.getOrDefault("arrivals", "poisson"));
+        Path out = Path.of(options.getOrDefault("out", "build/loadtest"));
+
+        try (LocalStandIns standIns = new LocalStandIns(target.getName()).start(target.getStandIns());
+             RunningApp app = RunningApp.start(target, standIns.getArguments())) {
+            HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            Scenario scenario = target.scenario(app.baseUrl(), client);
+
+            System.out.printf("%s: %.0f req/s, warmup %ds, measure %ds%n",
+                target.getName(), rate, warmup.toSeconds(), duration.toSeconds());
+            Map<String, EndpointStats> stats =
+                new OpenModelLoadGenerator(client, rate, warmup, duration, maxInFlight, poisson).run(scenario);
+
+            LoadReport report = new LoadReport(target.getName(), duration, stats);
+            report.print(System.out);
+            report.writeHistograms(out);
+            System.out.println("histograms: " + out.toAbsolutePath());
+        }
+        // 대상 앱의 비데몬 스레드가 남아 있을 수 있다
+        System.exit(0);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static String require(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing --" + key);
+        }
+        return value;
+    }
+
+    // 500ms, 30s, 2m
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+
+}
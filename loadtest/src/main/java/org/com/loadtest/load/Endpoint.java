@@ -0,0 +1,45 @@
+package org.com.loadtest.load;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+
+/**
+ * 부하를 보낼 엔드포인트 하나
+ * - requestFactory 는 요청 순번을 받아 요청을 만든다 (가입처럼 매번 달라야 하는 값에 사용).
+ * - expectedStatus 에 맞지 않는 응답은 오류로 센다 (지연 시간은 그대로 기록).
+ */
+public final class Endpoint {
+
+    private final String name;
+    private final int weight;
+    private final LongFunction<HttpRequest> requestFactory;
+    private final IntPredicate expectedStatus;
+
+    public Endpoint(String name, int weight, LongFunction<HttpRequest> requestFactory, IntPredicate expectedStatus) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + name);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.requestFactory = requestFactory;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public HttpRequest request(long sequence) {
+        return requestFactory.apply(sequence);
+    }
+
+    public boolean isExpected(int status) {
+        return expectedStatus.test(status);
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.com.loadtest.load;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/** 엔드포인트별 지연 시간(ns) 히스토그램과 결과 카운터 - 여러 응답 스레드에서 동시에 기록 */
+public final class EndpointStats {
+
+    private final String name;
+    private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+    private final LongAdder unexpectedStatus = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void recordResponse(long latencyNanos, boolean expected) {
+        latency.recordValue(latencyNanos);
+        if (!expected) {
+            unexpectedStatus.increment();
+        }
+    }
+
+    // 연결 실패, 타임아웃, 동시 요청 상한 초과
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        failures.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Histogram getLatency() {
+        return latency.copy();
+    }
+
+    public long getUnexpectedStatus() {
+        return unexpectedStatus.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.com.loadtest.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/** 엔드포인트별 처리량/지연 백분위 요약 출력과 .hgrm(HdrHistogram 백분위 분포) 파일 저장 */
+public final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String target;
+    private final Duration duration;
+    private final Map<String, EndpointStats> stats;
+
+    public LoadReport(String target, Duration duration, Map<String, EndpointStats> stats) {
+        this.target = target;
+        this.duration = duration;
+        this.stats = stats;
+    }
+
+    public void print(PrintStream out) {
+        // 1초 미만 측정도 처리량이 나오도록 나노초 기준으로 계산한다
+        double seconds = duration.toNanos() / NANOS_PER_SECOND;
+        out.printf("%n== %s (%.1fs measured) ==%n", target, seconds);
+        out.printf("%-28s %9s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "req/s", "status", "failed", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram h = endpoint.getLatency();
+            out.printf("%-28s %9d %8.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.getName(), h.getTotalCount(), h.getTotalCount() / seconds,
+                endpoint.getUnexpectedStatus(), endpoint.getFailures(),
+                millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / NANOS_PER_MILLI);
+        }
+    }
+
+    /** out/<target>-<endpoint>.hgrm - HdrHistogram plotter 로 모드/버전별 비교 */
+    public void writeHistograms(Path out) throws IOException {
+        Files.createDirectories(out);
+        for (EndpointStats endpoint : stats.values()) {
+            Path file = out.resolve(target + "-" + endpoint.getName().replaceAll("[^A-Za-z0-9._-]", "_") + ".hgrm");
+            try (PrintStream ps = new PrintStream(Files.newOutputStream(file))) {
+                endpoint.getLatency().outputPercentileDistribution(ps, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+}
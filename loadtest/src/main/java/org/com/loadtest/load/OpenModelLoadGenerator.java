@@ -0,0 +1,100 @@
+package org.com.loadtest.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 생성기
+ * - 응답을 기다리지 않고 정해진 도착률(rate/s)대로 요청을 비동기로 보낸다. 서버가 느려져도 도착률은 줄지 않는다.
+ * - 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할" 시각부터 재므로 coordinated omission 이 없다.
+ * - warmup 동안 보낸 요청은 기록하지 않는다.
+ * - 동시 요청이 maxInFlight 를 넘으면 보내지 않고 실패로 센다 (클라이언트 메모리 보호).
+ */
+public final class OpenModelLoadGenerator {
+
+    private final HttpClient client;
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final boolean poisson;
+
+    public OpenModelLoadGenerator(HttpClient client, double ratePerSecond, Duration warmup, Duration duration,
+                                  int maxInFlight, boolean poisson) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        this.client = client;
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.poisson = poisson;
+    }
+
+    public Map<String, EndpointStats> run(Scenario scenario) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (Endpoint endpoint : scenario.getEndpoints()) {
+            stats.put(endpoint.getName(), new EndpointStats(endpoint.getName()));
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        double next = start;
+        for (long sequence = 0; ; sequence++) {
+            long intended = (long) next;
+            if (intended >= end) {
+                break;
+            }
+            next += poisson ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            for (long now = System.nanoTime(); now < intended; now = System.nanoTime()) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            Endpoint endpoint = scenario.pick(random.nextDouble());
+            EndpointStats endpointStats = intended >= measureFrom ? stats.get(endpoint.getName()) : null;
+            if (!inFlight.tryAcquire()) {
+                if (endpointStats != null) {
+                    endpointStats.recordFailure(System.nanoTime() - intended);
+                }
+                continue;
+            }
+            client.sendAsync(endpoint.request(sequence), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    // 기록을 마친 뒤에 반환해야 run() 이 돌려주는 결과에 마지막 응답까지 들어간다
+                    try {
+                        if (endpointStats == null) {
+                            return;
+                        }
+                        long latency = System.nanoTime() - intended;
+                        if (error != null) {
+                            endpointStats.recordFailure(latency);
+                        } else {
+                            endpointStats.recordResponse(latency, endpoint.isExpected(response.statusCode()));
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+        }
+
+        // 남은 응답 대기 (최대 30초)
+        if (inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        return stats;
+    }
+
+}
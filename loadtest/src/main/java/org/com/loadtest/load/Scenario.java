@@ -0,0 +1,69 @@
+package org.com.loadtest.load;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+
+/** 가중치에 따라 엔드포인트를 섞어 보내는 시나리오 */
+public final class Scenario {
+
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+
+    private Scenario(List<Endpoint> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("scenario has no endpoints");
+        }
+        this.endpoints = List.copyOf(endpoints);
+        this.cumulativeWeights = new int[endpoints.size()];
+        int sum = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            sum += endpoints.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /** roll 은 [0, 1) 난수 */
+    public Endpoint pick(double roll) {
+        int target = (int) (roll * cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (target < cumulativeWeights[i]) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    public static final class Builder {
+
+        private static final IntPredicate SUCCESS = status -> status >= 200 && status < 300;
+
+        private final List<Endpoint> endpoints = new ArrayList<>();
+
+        public Builder endpoint(String name, int weight, LongFunction<HttpRequest> requestFactory) {
+            return endpoint(name, weight, requestFactory, SUCCESS);
+        }
+
+        public Builder endpoint(String name, int weight, LongFunction<HttpRequest> requestFactory,
+                                IntPredicate expectedStatus) {
+            endpoints.add(new Endpoint(name, weight, requestFactory, expectedStatus));
+            return this;
+        }
+
+        public Scenario build() {
+            return new Scenario(endpoints);
+        }
+
+    }
+
+}
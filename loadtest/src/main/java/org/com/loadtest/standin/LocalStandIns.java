@@ -0,0 +1,68 @@
+package org.com.loadtest.standin;
+
+import com.github.fppt.jedismock.RedisServer;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컨테이너 없이 쓰는 로컬 대역
+ * - PostgreSQL → H2(PostgreSQL 모드, 메모리), Redis → jedis-mock, MongoDB → mongo-java-server
+ * - 대상 앱 설정 파일보다 우선하도록 명령행 인자(--key=value) 형태로 설정을 돌려준다.
+ * - 대역은 실제 서버보다 느리거나 빠를 수 있다. 수치는 같은 조건의 버전/모드 간 비교용이다.
+ */
+public final class LocalStandIns implements AutoCloseable {
+
+    private final String name;
+    private final List<String> arguments = new ArrayList<>();
+    private RedisServer redis;
+    private MongoServer mongo;
+
+    public LocalStandIns(String name) {
+        this.name = name;
+    }
+
+    public LocalStandIns start(Set<StandIn> standIns) throws IOException {
+        if (standIns.contains(StandIn.H2)) {
+            arguments.add("--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+            arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            arguments.add("--spring.datasource.username=sa");
+            arguments.add("--spring.datasource.password=");
+            arguments.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+            arguments.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        if (standIns.contains(StandIn.REDIS)) {
+            redis = RedisServer.newRedisServer(0).start();
+            arguments.add("--spring.data.redis.host=" + redis.getHost());
+            arguments.add("--spring.data.redis.port=" + redis.getBindPort());
+            // 대역은 CONFIG 명령을 지원하지 않으므로 keyspace 알림 설정을 건너뛴다
+            arguments.add("--spring.session.redis.configure-action=none");
+        }
+        if (standIns.contains(StandIn.MONGO)) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            arguments.add("--spring.data.mongodb.uri=mongodb://" + address.getHostString() + ":" + address.getPort()
+                + "/" + name);
+        }
+        return this;
+    }
+
+    public List<String> getArguments() {
+        return List.copyOf(arguments);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (mongo != null) {
+            mongo.shutdownNow();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+}
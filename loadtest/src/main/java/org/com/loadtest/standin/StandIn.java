@@ -0,0 +1,8 @@
+package org.com.loadtest.standin;
+
+/** 대상 앱이 기대하는 외부 저장소 - 부하 테스트에서는 같은 JVM 의 대역으로 바꾼다 */
+public enum StandIn {
+    H2,
+    REDIS,
+    MONGO
+}
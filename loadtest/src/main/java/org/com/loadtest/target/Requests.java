@@ -0,0 +1,40 @@
+package org.com.loadtest.target;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Base64;
+
+/** 시나리오용 요청 생성 도우미 */
+final class Requests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private Requests() {
+    }
+
+    static HttpRequest get(String url, String... headers) {
+        return builder(url, headers).GET().build();
+    }
+
+    static HttpRequest postJson(String url, String json, String... headers) {
+        return builder(url, headers)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    static String[] basicAuth(String username, String password) {
+        String token = Base64.getEncoder().encodeToString((username + ":" + password).getBytes());
+        return new String[]{"Authorization", "Basic " + token};
+    }
+
+    private static HttpRequest.Builder builder(String url, String... headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT);
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        return builder;
+    }
+
+}
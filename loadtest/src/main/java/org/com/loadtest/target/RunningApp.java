@@ -0,0 +1,39 @@
+package org.com.loadtest.target;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** 같은 JVM 에서 임의 포트로 띄운 대상 앱 */
+public final class RunningApp implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private RunningApp(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    public static RunningApp start(Target target, List<String> extraArguments) throws ClassNotFoundException {
+        List<String> arguments = new ArrayList<>(extraArguments);
+        arguments.add("--server.port=0");
+        arguments.add("--spring.main.banner-mode=off");
+        arguments.add("--logging.level.root=WARN");
+        arguments.addAll(target.getArguments());
+
+        SpringApplication application = new SpringApplication(Class.forName(target.getMainClass()));
+        return new RunningApp(application.run(arguments.toArray(String[]::new)));
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+}
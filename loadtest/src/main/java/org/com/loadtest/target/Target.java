@@ -0,0 +1,188 @@
+package org.com.loadtest.target;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.com.loadtest.load.Scenario;
+import org.com.loadtest.standin.StandIn;
+
+/**
+ * 부하 대상 앱과 시나리오
+ * - 요청 구성은 각 앱의 컨트롤러/DTO 에 맞춘다. 가입처럼 중복이 안 되는 값은 요청 순번으로 만든다.
+ * - 시나리오를 만들 때 조회용 데이터를 미리 한 번 만들어 둔다 (setup).
+ */
+public enum Target {
+
+    ALGOS_API("org.com.algosapi.AlgosApiApplication", EnumSet.noneOf(StandIn.class)) {
+        @Override
+        public Scenario scenario(String baseUrl, HttpClient client) {
+            String api = baseUrl + "/api/v1/algorithms";
+            String text = "the quick brown fox jumps over the lazy dog ".repeat(200);
+            // 본문이 같으면 ResultCache 가 대신 답하므로 요청마다 순번을 넣어 본문을 다르게 한다 (계산량은 그대로)
+            String numbers = numbersJson(2_000).substring(1);
+            return Scenario.builder()
+                .endpoint("reverse", 2, seq -> Requests.postJson(api + "/reverse",
+                    "{\"text\":\"" + seq + " " + text + "\"}"))
+                .endpoint("word-frequency", 3, seq -> Requests.postJson(api + "/word-frequency",
+                    "{\"text\":\"" + text + seq + "\",\"limit\":10}"))
+                // 0..1999 의 두 수로는 만들 수 없는 값을 앞에 붙여 답(1998 + 1999)이 바뀌지 않게 한다
+                .endpoint("two-sum", 2, seq -> Requests.postJson(api + "/two-sum",
+                    "{\"numbers\":[" + (seq + 4_000) + "," + numbers + ",\"target\":3997}"))
+                // 음수 하나를 앞에 붙여 중복 제거 후 크기(2001)를 일정하게 유지한다
+                .endpoint("unique-sort", 2, seq -> Requests.postJson(api + "/unique-sort",
+                    "{\"numbers\":[" + (-seq - 1) + "," + numbers + "}"))
+                .endpoint("valid-parentheses", 1, seq -> Requests.postJson(api + "/valid-parentheses",
+                    "{\"str\":\"" + "([]{()})".repeat(100) + "\"}"))
+                .build();
+        }
+    },
+
+    TODOLIST("org.com.todolist.TodolistApplication", EnumSet.of(StandIn.H2)) {
+        @Override
+        public Scenario scenario(String baseUrl, HttpClient client) throws IOException, InterruptedException {
+            String todos = baseUrl + "/api/todos";
+            String id = setup(client, Requests.postJson(todos, todoJson(0)), UUID_FIELD);
+            return Scenario.builder()
+                .endpoint("create", 2, seq -> Requests.postJson(todos, todoJson(seq)))
+                .endpoint("list", 1, seq -> Requests.get(todos))
+                .endpoint("get", 7, seq -> Requests.get(todos + "/" + id))
+                .build();
+        }
+    },
+
+    INVITECHAT("org.com.invitechat.InviteChatApplication",
+        EnumSet.of(StandIn.H2, StandIn.REDIS, StandIn.MONGO), List.of(
+            "--spring.security.user.name=" + InvitechatUser.NAME,
+            "--spring.security.user.password=" + InvitechatUser.PASSWORD)) {
+        @Override
+        public Scenario scenario(String baseUrl, HttpClient client) {
+            // 초대 생성은 앱 전용 principal 이 필요해 제외 - 없는 토큰 조회(404)로 조회 경로 + Redis 왕복을 측정
+            String[] auth = Requests.basicAuth(InvitechatUser.NAME, InvitechatUser.PASSWORD);
+            return Scenario.builder()
+                .endpoint("invite-meta", 1, seq -> Requests.get(
+                        baseUrl + "/api/rooms/room-1/invites/missing-" + seq, auth),
+                    status -> status == 200 || status == 404)
+                .endpoint("invite-redirect", 1, seq -> Requests.get(baseUrl + "/inv/missing-" + seq, auth),
+                    status -> status == 302 || status == 404)
+                .build();
+        }
+    },
+
+    AUTHPROJECT("org.com.authproject.AuthprojectApplication", EnumSet.of(StandIn.H2, StandIn.REDIS)) {
+        @Override
+        public Scenario scenario(String baseUrl, HttpClient client) throws IOException, InterruptedException {
+            String auth = baseUrl + "/api/auth";
+            setup(client, Requests.postJson(auth + "/signup",
+                "{\"username\":\"loaduser\",\"password\":\"password123\",\"nickname\":\"load\"}"), null);
+            return Scenario.builder()
+                .endpoint("login", 9, seq -> Requests.postJson(auth + "/login",
+                    "{\"username\":\"loaduser\",\"password\":\"password123\"}"))
+                .endpoint("signup", 1, seq -> Requests.postJson(auth + "/signup",
+                    "{\"username\":\"user" + seq + "\",\"password\":\"password123\",\"nickname\":\"n" + seq + "\"}"))
+                .build();
+        }
+    },
+
+    NEWSLETTER("org.com.newsletter.NewsletterApplication", EnumSet.of(StandIn.H2, StandIn.REDIS)) {
+        @Override
+        public Scenario scenario(String baseUrl, HttpClient client) throws IOException, InterruptedException {
+            String auth = baseUrl + "/api/auth";
+            setup(client, Requests.postJson(auth + "/register",
+                "{\"username\":\"loaduser\",\"password\":\"password123\"}"), null);
+            return Scenario.builder()
+                .endpoint("login", 9, seq -> Requests.postJson(auth + "/login",
+                    "{\"username\":\"loaduser\",\"password\":\"password123\"}"))
+                .endpoint("register", 1, seq -> Requests.postJson(auth + "/register",
+                    "{\"username\":\"user" + seq + "\",\"password\":\"password123\"}"))
+                .build();
+        }
+    };
+
+    private static final Pattern UUID_FIELD =
+        Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+
+    private final String mainClass;
+    private final Set<StandIn> standIns;
+    private final List<String> arguments;
+
+    Target(String mainClass, Set<StandIn> standIns) {
+        this(mainClass, standIns, List.of());
+    }
+
+    Target(String mainClass, Set<StandIn> standIns, List<String> arguments) {
+        this.mainClass = mainClass;
+        this.standIns = standIns;
+        this.arguments = arguments;
+    }
+
+    public abstract Scenario scenario(String baseUrl, HttpClient client) throws IOException, InterruptedException;
+
+    /** algosApi / algos-api / ALGOS_API 모두 허용 */
+    public static Target parse(String name) {
+        String normalized = name.replaceAll("([a-z])([A-Z])", "$1_$2").replace('-', '_').toUpperCase(Locale.ROOT);
+        return valueOf(normalized);
+    }
+
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    public Set<StandIn> getStandIns() {
+        return standIns;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    // 준비 요청을 보내고, pattern 이 있으면 응답 본문에서 첫 그룹을 뽑는다
+    private static String setup(HttpClient client, HttpRequest request, Pattern pattern)
+        throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Setup request failed: " + request.uri() + " -> "
+                + response.statusCode() + " " + response.body());
+        }
+        if (pattern == null) {
+            return null;
+        }
+        Matcher matcher = pattern.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected setup response: " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static String todoJson(long sequence) {
+        return "{\"title\":\"todo-" + sequence + "\",\"description\":\"load test\",\"completed\":false}";
+    }
+
+    private static String numbersJson(int n) {
+        StringBuilder sb = new StringBuilder(n * 6).append('[');
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(i);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class InvitechatUser {
+        static final String NAME = "loadtest";
+        static final String PASSWORD = UUID.randomUUID().toString();
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.com.loadtest.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OpenModelLoadGeneratorTest {
+
+    private final Set<String> bodies = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void records_only_measured_requests_at_the_configured_rate() throws Exception {
+        Scenario scenario = Scenario.builder()
+            .endpoint("ok", 3, seq -> post("/ok", "{\"seq\":" + seq + "}"))
+            .endpoint("fail", 1, seq -> post("/fail", "{}"))
+            .build();
+
+        Map<String, EndpointStats> stats = new OpenModelLoadGenerator(
+            client, 100, Duration.ofMillis(200), Duration.ofMillis(500), 1_000, false).run(scenario);
+
+        EndpointStats ok = stats.get("ok");
+        EndpointStats fail = stats.get("fail");
+        long measured = ok.getLatency().getTotalCount() + fail.getLatency().getTotalCount();
+        // 100 req/s * 0.5s = 50 (warmup 20건은 기록하지 않음)
+        assertEquals(50.0, measured, 1.0);
+        assertTrue(ok.getLatency().getTotalCount() > 0);
+        assertTrue(fail.getLatency().getTotalCount() > 0);
+        assertEquals(0, ok.getUnexpectedStatus());
+        assertEquals(0, ok.getFailures());
+        assertEquals(fail.getLatency().getTotalCount(), fail.getUnexpectedStatus());
+        // 요청 순번으로 만든 본문은 warmup 포함 모두 달라야 한다
+        assertTrue(bodies.size() > ok.getLatency().getTotalCount());
+    }
+
+    @Test
+    void unreachable_server_counts_as_failure() throws Exception {
+        server.stop(0);
+        Scenario scenario = Scenario.builder()
+            .endpoint("ok", 1, seq -> post("/ok", "{}"))
+            .build();
+
+        Map<String, EndpointStats> stats = new OpenModelLoadGenerator(
+            client, 100, Duration.ZERO, Duration.ofMillis(200), 1_000, false).run(scenario);
+
+        EndpointStats ok = stats.get("ok");
+        assertEquals(20.0, ok.getLatency().getTotalCount(), 1.0);
+        assertEquals(ok.getLatency().getTotalCount(), ok.getFailures());
+    }
+
+    @Test
+    void report_rate_is_finite_for_sub_second_runs() throws Exception {
+        Scenario scenario = Scenario.builder()
+            .endpoint("ok", 1, seq -> post("/ok", "{\"seq\":" + seq + "}"))
+            .build();
+        Duration duration = Duration.ofMillis(500);
+        Map<String, EndpointStats> stats = new OpenModelLoadGenerator(
+            client, 100, Duration.ZERO, duration, 1_000, false).run(scenario);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new LoadReport("local", duration, stats).print(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        String report = buffer.toString(StandardCharsets.UTF_8);
+
+        assertTrue(report.contains("== local (0.5s measured) =="), report);
+        assertFalse(report.contains("Infinity"), report);
+        // 50건 / 0.5s = 100 req/s
+        String line = report.lines().filter(l -> l.startsWith("ok ")).findFirst().orElseThrow();
+        assertEquals(100.0, Double.parseDouble(line.trim().split("\\s+")[2]), 2.0, report);
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(5))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+}
@@ -0,0 +1,87 @@
+package countingwords;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 단어 빈도: regex + split + Integer(Ex1) vs groupingBy(Ex1 stream) vs 한 번 훑기 + 원시 맵(Ex2)
+// - file*: 같은 텍스트를 파일로 두고 readString 후 Ex1 vs 메모리 맵 Ex2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WordFreqBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    // 어휘 크기 - 작을수록 같은 단어가 자주 반복
+    @Param({"100", "100000"})
+    int vocabulary;
+
+    private String text;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(size + 64);
+        while (sb.length() < size) {
+            Random word = new Random(random.nextInt(vocabulary));
+            int length = 2 + word.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                char c = (char) ('a' + word.nextInt(26));
+                sb.append(i == 0 && random.nextInt(4) == 0 ? Character.toUpperCase(c) : c);
+            }
+            sb.append(random.nextInt(8) == 0 ? ", " : " ");
+        }
+        sb.setLength(size);
+        text = sb.toString();
+
+        file = Files.createTempFile("wordfreq", ".txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Object regexSplit() {
+        return WordFreqEx1.wordFreq(text);
+    }
+
+    @Benchmark
+    public Object stream() {
+        return WordFreqEx1.wordFreqStream(text);
+    }
+
+    @Benchmark
+    public Object primitive() {
+        return WordFreqEx2.wordFreq(text);
+    }
+
+    @Benchmark
+    public Object fileReadString() throws IOException {
+        return WordFreqEx1.wordFreq(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Object fileMapped() throws IOException {
+        return WordFreqEx2.wordFreq(file);
+    }
+
+}
@@ -0,0 +1,117 @@
+package reversestring;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 문자열 커널: StringBuilder(Ex1) / 투 포인터(Ex2) / 스칼라 / Vector API
+// - 뒤집기는 같은 배열을 제자리에서 반복 처리 (입력 복사 비용 제외)
+// - 소문자 변환은 한 번 돌면 입력이 모두 소문자가 되므로, 매번 대소문자가 섞인 원본을 scratch 로 복사한 뒤 변환
+//   (복사 비용은 스칼라/벡터 양쪽에 똑같이 들어가고, copyBaseline 으로 따로 잰다)
+// - indexOf 는 구분자를 맨 끝에만 두어 전체를 훑게 한다
+// - size 는 바이트 수 (char 는 size / 2 개)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextKernelsBenchmark {
+
+    @Param({"16", "256", "4096", "65536", "1048576", "67108864"})
+    int size;
+
+    private final TextKernels scalar = new ScalarTextKernels();
+    private final TextKernels vector = new VectorTextKernels();
+
+    private String text;
+    private char[] chars;
+    private byte[] bytes;
+    private byte[] scratch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        chars = new char[Math.max(1, size / 2)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (random.nextInt(4) == 0 ? 'A' + random.nextInt(26) : 'a' + random.nextInt(26));
+        }
+        text = new String(chars);
+
+        bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (random.nextInt(4) == 0 ? 'A' + random.nextInt(26) : 'a' + random.nextInt(26));
+        }
+        bytes[size - 1] = '\n';
+        scratch = new byte[size];
+    }
+
+    @Benchmark
+    public String reverseBuilder() {
+        return ReverseStringEx1.reverseWithBuilder(text);
+    }
+
+    @Benchmark
+    public String reverseTwoPointer() {
+        return ReverseStringEx2.reverseWithCharArray(text);
+    }
+
+    @Benchmark
+    public char[] reverseCharsScalar() {
+        scalar.reverse(chars);
+        return chars;
+    }
+
+    @Benchmark
+    public char[] reverseCharsVector() {
+        vector.reverse(chars);
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] reverseBytesScalar() {
+        scalar.reverse(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] reverseBytesVector() {
+        vector.reverse(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public int indexOfScalar() {
+        return scalar.indexOf(bytes, 0, bytes.length, (byte) '\n');
+    }
+
+    @Benchmark
+    public int indexOfVector() {
+        return vector.indexOf(bytes, 0, bytes.length, (byte) '\n');
+    }
+
+    @Benchmark
+    public byte[] copyBaseline() {
+        System.arraycopy(bytes, 0, scratch, 0, size);
+        return scratch;
+    }
+
+    @Benchmark
+    public byte[] toLowerScalar() {
+        System.arraycopy(bytes, 0, scratch, 0, size);
+        scalar.toLowerAscii(scratch);
+        return scratch;
+    }
+
+    @Benchmark
+    public byte[] toLowerVector() {
+        System.arraycopy(bytes, 0, scratch, 0, size);
+        vector.toLowerAscii(scratch);
+        return scratch;
+    }
+
+}
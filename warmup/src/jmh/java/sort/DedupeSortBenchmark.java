@@ -0,0 +1,88 @@
+package sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 중복 제거 + 정렬: SortEx1(박싱 List) vs IntDedupeSort 엔진별 vs 자동 선택
+// - duplicatePercent: 입력 중 앞에 나온 값을 다시 쓴 비율 (0 = 모두 다름, 99 = 1% 만 고유)
+// - wideRange=false 면 고유 값을 좁은 범위(고유 수의 2배)에서 뽑아 비트셋이 유리한 경우를 만든다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DedupeSortBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"0", "50", "90", "99"})
+    int duplicatePercent;
+
+    @Param({"true", "false"})
+    boolean wideRange;
+
+    private int[] nums;
+    private List<Integer> boxed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int unique = Math.max(1, (int) (size * (100L - duplicatePercent) / 100));
+        int[] pool = new int[unique];
+        for (int i = 0; i < unique; i++) {
+            pool[i] = wideRange ? random.nextInt() : random.nextInt(unique * 2);
+        }
+        nums = new int[size];
+        for (int i = 0; i < size; i++) {
+            nums[i] = i < unique ? pool[i] : pool[random.nextInt(unique)];
+        }
+        // 섞기
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = nums[i];
+            nums[i] = nums[j];
+            nums[j] = tmp;
+        }
+        boxed = Arrays.stream(nums).boxed().toList();
+    }
+
+    @Benchmark
+    public Object hashSet() {
+        return SortEx1.dedupeAndSortWithSet(boxed);
+    }
+
+    @Benchmark
+    public Object stream() {
+        return SortEx1.dedupeAndSortStream(boxed);
+    }
+
+    @Benchmark
+    public int[] sortCompact() {
+        return IntDedupeSort.dedupeAndSort(nums, IntDedupeSort.Engine.SORT_COMPACT);
+    }
+
+    @Benchmark
+    public int[] bitset() {
+        return IntDedupeSort.dedupeAndSort(nums, IntDedupeSort.Engine.BITSET);
+    }
+
+    @Benchmark
+    public int[] parallel() {
+        return IntDedupeSort.dedupeAndSort(nums, IntDedupeSort.Engine.PARALLEL);
+    }
+
+    @Benchmark
+    public int[] chosen() {
+        return IntDedupeSort.dedupeAndSort(nums);
+    }
+
+}
@@ -0,0 +1,169 @@
+package countingwords;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 단어 -> 빈도 전용 해시 맵 (open addressing, 선형 탐사)
+// - 단어는 ASCII [a-z0-9] 뿐이라 String 대신 byte 한 줄(arena)에 이어 붙여 저장
+// - 빈도는 박싱 없이 long[] 에 바로 증가 (GB 단위 입력에서 int 를 넘을 수 있음)
+// - 메모리는 입력 크기가 아니라 "서로 다른 단어 수"에 비례
+public class WordCountMap {
+
+    // FNV-1a - 스캐너는 같은 식을 한 글자씩 이어서 계산한다
+    public static final int FNV_OFFSET = 0x811C9DC5;
+    public static final int FNV_PRIME = 0x01000193;
+
+    private static final int EMPTY = -1;
+
+    private int[] slots;          // 해시 슬롯 -> 항목 번호
+    private int mask;
+
+    private int[] hashes;         // 항목별 해시
+    private int[] offsets;        // 항목별 arena 시작 위치
+    private int[] lengths;        // 항목별 단어 길이
+    private long[] counts;        // 항목별 빈도
+    private int size;
+
+    private byte[] arena = new byte[1 << 12];
+    private int arenaSize;
+
+    private long total;
+
+    public WordCountMap() {
+        this(1 << 10);
+    }
+
+    public WordCountMap(int expectedWords) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedWords) * 2 - 1) << 1;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        int entries = capacity >>> 1;
+        hashes = new int[entries];
+        offsets = new int[entries];
+        lengths = new int[entries];
+        counts = new long[entries];
+    }
+
+    // word[from, from + length) 의 빈도 +1 - hash 는 호출 측이 스캔하면서 같이 계산한 값
+    public void increment(byte[] word, int from, int length, int hash) {
+        total++;
+        int slot = mix(hash) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == EMPTY) {
+                insert(slot, word, from, length, hash);
+                return;
+            }
+            if (hashes[entry] == hash && equalsAt(entry, word, from, length)) {
+                counts[entry]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // 단어의 빈도 (없으면 0)
+    public long count(String word) {
+        byte[] bytes = word.getBytes(StandardCharsets.ISO_8859_1);
+        int hash = hash(bytes, 0, bytes.length);
+        int slot = mix(hash) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == EMPTY) {
+                return 0;
+            }
+            if (hashes[entry] == hash && equalsAt(entry, bytes, 0, bytes.length)) {
+                return counts[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // 서로 다른 단어 수
+    public int size() {
+        return size;
+    }
+
+    // 전체 단어 수
+    public long total() {
+        return total;
+    }
+
+    // 결과 확인/비교용 - 여기서만 String 과 Long 을 만든다
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(new String(arena, offsets[i], lengths[i], StandardCharsets.ISO_8859_1), counts[i]);
+        }
+        return map;
+    }
+
+    public static int hash(byte[] word, int from, int length) {
+        int h = FNV_OFFSET;
+        for (int i = from; i < from + length; i++) {
+            h = (h ^ word[i]) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    // FNV 하위 비트 분포 보정
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private boolean equalsAt(int entry, byte[] word, int from, int length) {
+        if (lengths[entry] != length) {
+            return false;
+        }
+        int offset = offsets[entry];
+        for (int i = 0; i < length; i++) {
+            if (arena[offset + i] != word[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insert(int slot, byte[] word, int from, int length, int hash) {
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+        }
+        System.arraycopy(word, from, arena, arenaSize, length);
+
+        int entry = size++;
+        hashes[entry] = hash;
+        offsets[entry] = arenaSize;
+        lengths[entry] = length;
+        counts[entry] = 1;
+        arenaSize += length;
+        slots[slot] = entry;
+
+        // 적재율 1/2 를 넘으면 두 배로
+        if (size == hashes.length) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = mix(hashes[entry]) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry;
+        }
+        int entries = capacity >>> 1;
+        hashes = Arrays.copyOf(hashes, entries);
+        offsets = Arrays.copyOf(offsets, entries);
+        lengths = Arrays.copyOf(lengths, entries);
+        counts = Arrays.copyOf(counts, entries);
+    }
+
+}
@@ -0,0 +1,166 @@
+package countingwords;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+// 단어 빈도 수 세기 - 정규식/split/박싱 없이 한 번 훑기
+// WordFreqEx1 과 같은 규칙: 소문자 변환 후 [a-z0-9] 가 아닌 글자는 모두 구분자
+// - 대문자는 ASCII 만 바뀌는 게 아니다: toLowerCase 결과가 ASCII 가 되는 글자는
+//   U+0130(İ -> "i" + 결합 점) 과 U+212A(켈빈 기호 -> "k") 둘뿐이라 따로 처리 (Locale.ROOT 기준)
+// - 파일 입력은 메모리 맵으로 창(window) 단위로 읽어 힙보다 큰 파일도 처리
+public class WordFreqEx2 {
+
+    // 한 번에 매핑할 파일 구간 크기
+    private static final long WINDOW = 64L * 1024 * 1024;
+
+    public static WordCountMap wordFreq(CharSequence text) {
+        Scanner scanner = new Scanner(new WordCountMap());
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                scanner.ascii(c);
+            } else if (c == '\u0130') {
+                scanner.letter('i');
+                scanner.separator();
+            } else if (c == '\u212A') {
+                scanner.letter('k');
+            } else {
+                scanner.separator();
+            }
+        }
+        return scanner.finish();
+    }
+
+    // UTF-8 파일 - 창 경계에 걸친 단어/멀티바이트 글자는 스캐너 상태로 이어 붙인다
+    public static WordCountMap wordFreq(Path file) throws IOException {
+        Scanner scanner = new Scanner(new WordCountMap(1 << 16));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += WINDOW) {
+                MappedByteBuffer window =
+                    channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW, size - position));
+                for (int i = 0, n = window.limit(); i < n; i++) {
+                    scanner.utf8(window.get(i));
+                }
+            }
+        }
+        return scanner.finish();
+    }
+
+    // 현재 단어(token)를 모으면서 FNV 해시를 같이 계산
+    private static final class Scanner {
+
+        // UTF-8 에서 기다리는 다음 바이트
+        private static final int NONE = 0;
+        private static final int AFTER_C4 = 1;      // U+0130 = C4 B0
+        private static final int AFTER_E2 = 2;      // U+212A = E2 84 AA
+        private static final int AFTER_E2_84 = 3;
+
+        private final WordCountMap counts;
+        private byte[] token = new byte[64];
+        private int length;
+        private int hash = WordCountMap.FNV_OFFSET;
+        private int utf8State = NONE;
+
+        Scanner(WordCountMap counts) {
+            this.counts = counts;
+        }
+
+        void ascii(int c) {
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                letter(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                letter(c + ('a' - 'A'));
+            } else {
+                separator();
+            }
+        }
+
+        void utf8(byte b) {
+            int u = b & 0xFF;
+            switch (utf8State) {
+                case AFTER_C4:
+                    utf8State = NONE;
+                    if (u == 0xB0) {
+                        letter('i');
+                        separator();
+                        return;
+                    }
+                    separator();
+                    break;
+                case AFTER_E2:
+                    if (u == 0x84) {
+                        utf8State = AFTER_E2_84;
+                        return;
+                    }
+                    utf8State = NONE;
+                    separator();
+                    break;
+                case AFTER_E2_84:
+                    utf8State = NONE;
+                    if (u == 0xAA) {
+                        letter('k');
+                        return;
+                    }
+                    separator();
+                    break;
+                default:
+            }
+
+            if (u < 0x80) {
+                ascii(u);
+            } else if (u == 0xC4) {
+                utf8State = AFTER_C4;
+            } else if (u == 0xE2) {
+                utf8State = AFTER_E2;
+            } else {
+                separator();
+            }
+        }
+
+        void letter(int c) {
+            if (length == token.length) {
+                token = Arrays.copyOf(token, length * 2);
+            }
+            token[length++] = (byte) c;
+            hash = (hash ^ c) * WordCountMap.FNV_PRIME;
+        }
+
+        void separator() {
+            if (length > 0) {
+                counts.increment(token, 0, length, hash);
+                length = 0;
+                hash = WordCountMap.FNV_OFFSET;
+            }
+        }
+
+        WordCountMap finish() {
+            utf8State = NONE;
+            separator();
+            return counts;
+        }
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 1) {
+            long start = System.nanoTime();
+            WordCountMap counts = wordFreq(Path.of(args[0]));
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("[P2] words=" + counts.total() + ", distinct=" + counts.size() + ", " + elapsedMs + "ms");
+            return;
+        }
+
+        String text = "Hello, hello!! Java & SQL—sql. JAVA?";
+        Map<String, Long> freq = wordFreq(text).toMap();
+
+        // 기대: {hello=2, java=2, sql=2} (WordFreqEx1 과 같음)
+        System.out.println("[P2] wordFreq(primitive): " + freq);
+    }
+
+}
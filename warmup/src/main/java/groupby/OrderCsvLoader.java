@@ -0,0 +1,404 @@
+package groupby;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 주문 CSV 병렬 집계 (id,userId,amount,createdAt)
+// - 파일을 줄 경계에 맞춘 구간으로 나누고, 작업 스레드가 구간을 하나씩 가져가 메모리 맵으로 읽는다
+// - 집계 테이블은 작업 스레드마다 하나 (구간 수가 아니라 스레드 수만큼만 메모리를 쓴다)
+// - 최신 주문은 행의 파일 오프셋도 같이 보관 → 같은 시각이면 파일에서 먼저 나온 행 (합치는 순서와 무관)
+// - Order 객체는 만들지 않는다. 최신 주문은 주문 id 만 보관
+// - createdAt: epochMillis 숫자 또는 yyyy-MM-dd'T'HH:mm[:ss[.SSS]] (공백 구분도 허용, UTC)
+// - 첫 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뜀
+public class OrderCsvLoader {
+
+    // 한 구간(=한 번의 매핑) 최대 크기
+    private static final long MAX_SEGMENT = 1L << 30;
+
+    public static Summary aggregate(Path file) throws IOException {
+        return aggregate(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static Summary aggregate(Path file, int parallelism) throws IOException {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = segmentBounds(channel, parallelism);
+            AtomicInteger next = new AtomicInteger();
+            List<Future<Partial>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                futures.add(executor.submit((Callable<Partial>) () -> parseSegments(channel, bounds, next)));
+            }
+
+            UserAggregates merged = new UserAggregates(1 << 10);
+            long rows = 0;
+            for (Future<Partial> future : futures) {
+                Partial partial = future.get();
+                merged.merge(partial.users);
+                rows += partial.rows;
+            }
+            return new Summary(merged, rows, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + file, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 구간 경계: 크기로 나눈 뒤 각 경계를 다음 줄 시작으로 민다
+    private static long[] segmentBounds(FileChannel channel, int parallelism) throws IOException {
+        long size = channel.size();
+        int segments = (int) Math.max(parallelism * 4L, (size + MAX_SEGMENT - 1) / MAX_SEGMENT);
+        segments = (int) Math.max(1, Math.min(segments, size / 4096 + 1));
+
+        long[] bounds = new long[segments + 1];
+        bounds[segments] = size;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int i = 1; i < segments; i++) {
+            long position = Math.max(bounds[i - 1], size / segments * i - 1);
+            bounds[i] = nextLineStart(channel, position, size, probe);
+        }
+        return bounds;
+    }
+
+    // position 이후 첫 '\n' 다음 위치 (없으면 파일 끝)
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe)
+        throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // 남은 구간이 없을 때까지 다음 구간을 가져와 이 스레드의 Partial 에 집계
+    private static Partial parseSegments(FileChannel channel, long[] bounds, AtomicInteger next) {
+        Partial partial = new Partial();
+        int segment;
+        while ((segment = next.getAndIncrement()) + 1 < bounds.length) {
+            parseSegment(channel, bounds[segment], bounds[segment + 1], segment == 0, partial);
+        }
+        return partial;
+    }
+
+    private static void parseSegment(FileChannel channel, long from, long to, boolean first, Partial partial) {
+        if (from == to) {
+            return;
+        }
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        LineParser parser = new LineParser(buffer, from);
+        if (first && !parser.startsWithNumber()) {
+            parser.skipLine();
+        }
+        while (parser.hasMore()) {
+            if (parser.skipBlankLine()) {
+                continue;
+            }
+            long offset = parser.offset();
+            long id = parser.longField(',');
+            long userId = parser.longField(',');
+            long amount = parser.longField(',');
+            long createdAt = parser.timestamp();
+            partial.users.add(userId, amount, createdAt, id, offset);
+            partial.rows++;
+        }
+    }
+
+    private static final class Partial {
+        final UserAggregates users = new UserAggregates(1 << 10);
+        long rows;
+    }
+
+    // 한 구간 안에서 바이트를 직접 읽는 CSV 파서 (String 생성 없음)
+    private static final class LineParser {
+
+        private final MappedByteBuffer buffer;
+        private final long baseOffset;
+        private final int limit;
+        private int pos;
+
+        LineParser(MappedByteBuffer buffer, long baseOffset) {
+            this.buffer = buffer;
+            this.baseOffset = baseOffset;
+            this.limit = buffer.limit();
+        }
+
+        boolean hasMore() {
+            return pos < limit;
+        }
+
+        // 현재 위치의 파일 오프셋
+        long offset() {
+            return baseOffset + pos;
+        }
+
+        boolean startsWithNumber() {
+            if (pos >= limit) {
+                return true;
+            }
+            byte b = buffer.get(pos);
+            return b == '-' || (b >= '0' && b <= '9');
+        }
+
+        void skipLine() {
+            while (pos < limit && buffer.get(pos++) != '\n') {
+                // 헤더 건너뛰기
+            }
+        }
+
+        boolean skipBlankLine() {
+            byte b = buffer.get(pos);
+            if (b == '\n') {
+                pos++;
+                return true;
+            }
+            if (b == '\r' && (pos + 1 == limit || buffer.get(pos + 1) == '\n')) {
+                pos = Math.min(limit, pos + 2);
+                return true;
+            }
+            return false;
+        }
+
+        long longField(char delimiter) {
+            int start = pos;
+            boolean negative = pos < limit && buffer.get(pos) == '-';
+            if (negative) {
+                pos++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (pos < limit) {
+                byte b = buffer.get(pos);
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                value = value * 10 + (b - '0');
+                digits++;
+                pos++;
+            }
+            if (digits == 0 || digits > 18) {
+                throw malformed(start);
+            }
+            expect(delimiter);
+            return negative ? -value : value;
+        }
+
+        // epochMillis 또는 ISO 로컬 일시 (UTC) - 줄 끝까지 소비
+        long timestamp() {
+            int start = pos;
+            int end = start;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int fieldEnd = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            pos = Math.min(limit, end + 1);
+
+            if (fieldEnd - start >= 10 && buffer.get(start + 4) == '-') {
+                return isoMillis(start, fieldEnd);
+            }
+            // longField 와 같이 18자리까지만 받아 long 범위를 넘지 않게 한다
+            if (fieldEnd == start || fieldEnd - start > 18) {
+                throw malformed(start);
+            }
+            return digits(start, fieldEnd - start);
+        }
+
+        // yyyy-MM-dd[T| ]HH:mm[:ss[.SSS]]
+        private long isoMillis(int start, int end) {
+            int length = end - start;
+            if (length != 16 && length != 19 && length != 23) {
+                throw malformed(start);
+            }
+            long year = digits(start, 4);
+            int month = (int) digits(start + 5, 2);
+            int day = (int) digits(start + 8, 2);
+            byte separator = buffer.get(start + 10);
+            if (buffer.get(start + 7) != '-' || (separator != 'T' && separator != ' ')
+                || buffer.get(start + 13) != ':' || month < 1 || month > 12
+                || day < 1 || day > daysInMonth(year, month)) {
+                throw malformed(start);
+            }
+            long hour = digits(start + 11, 2);
+            long minute = digits(start + 14, 2);
+            long second = length >= 19 ? digits(start + 17, 2) : 0;
+            long millis = length == 23 ? digits(start + 20, 3) : 0;
+            if ((length >= 19 && buffer.get(start + 16) != ':') || (length == 23 && buffer.get(start + 19) != '.')
+                || hour > 23 || minute > 59 || second > 59) {
+                throw malformed(start);
+            }
+            return ((daysFromCivil(year, month, day) * 24 + hour) * 60 + minute) * 60_000 + second * 1000 + millis;
+        }
+
+        private long digits(int at, int count) {
+            long value = 0;
+            for (int i = at; i < at + count; i++) {
+                byte b = buffer.get(i);
+                if (b < '0' || b > '9') {
+                    throw malformed(at);
+                }
+                value = value * 10 + (b - '0');
+            }
+            return value;
+        }
+
+        private void expect(char delimiter) {
+            if (pos >= limit || buffer.get(pos) != delimiter) {
+                throw malformed(pos);
+            }
+            pos++;
+        }
+
+        private IllegalArgumentException malformed(int at) {
+            return new IllegalArgumentException("Malformed order CSV at byte " + (baseOffset + at));
+        }
+
+        private static int daysInMonth(long year, int month) {
+            if (month == 2) {
+                boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+                return leap ? 29 : 28;
+            }
+            return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+        }
+
+        // 1970-01-01 기준 일 수 (proleptic Gregorian, Howard Hinnant 의 days_from_civil)
+        private static long daysFromCivil(long year, int month, int day) {
+            year -= month <= 2 ? 1 : 0;
+            long era = Math.floorDiv(year, 400);
+            long yearOfEra = year - era * 400;
+            long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+            long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+            return era * 146097 + dayOfEra - 719468;
+        }
+
+    }
+
+    // 집계 결과 - 사용자별 주문 수/합계/최신 주문 id 와 처리 속도
+    public static final class Summary {
+
+        private final UserAggregates users;
+        private final long rows;
+        private final long elapsedNanos;
+
+        private Summary(UserAggregates users, long rows, long elapsedNanos) {
+            this.users = users;
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        public int users() {
+            return users.size();
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double rowsPerSecond() {
+            return rows * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+        }
+
+        public long countOrders(long userId) {
+            int user = users.indexOf(userId);
+            return user < 0 ? 0 : users.count(user);
+        }
+
+        public long sumAmount(long userId) {
+            int user = users.indexOf(userId);
+            return user < 0 ? 0 : users.sum(user);
+        }
+
+        public OptionalLong latestOrderId(long userId) {
+            int user = users.indexOf(userId);
+            return user < 0 ? OptionalLong.empty() : OptionalLong.of(users.latestRef(user));
+        }
+
+        public Map<Long, Long> countOrdersByUser() {
+            return users.countsByUser();
+        }
+
+        public Map<Long, Long> sumAmountByUser() {
+            return users.sumsByUser();
+        }
+
+    }
+
+    // 인자 없이 실행하면 임시 CSV(1,000만 행)를 만들어 집계
+    public static void main(String[] args) throws IOException {
+        Path file;
+        boolean generated = args.length == 0;
+        if (generated) {
+            file = Files.createTempFile("orders", ".csv");
+            Random random = new Random(42);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("id,userId,amount,createdAt\n");
+                for (int i = 1; i <= 10_000_000; i++) {
+                    writer.write(i + "," + (100 + random.nextInt(100_000)) + "," + random.nextInt(100_000) + ","
+                        + (1_757_000_000_000L + random.nextInt(1_000_000_000)) + "\n");
+                }
+            }
+        } else {
+            file = Path.of(args[0]);
+        }
+
+        try {
+            Summary summary = aggregate(file);
+            System.out.printf("[P4] rows=%d, users=%d, %.0f rows/s (%d ms)%n", summary.rows(), summary.users(),
+                summary.rowsPerSecond(), summary.elapsedNanos() / 1_000_000);
+            System.out.println("[P4] user 101: count=" + summary.countOrders(101) + ", sum=" + summary.sumAmount(101)
+                + ", latest id=" + summary.latestOrderId(101));
+        } finally {
+            if (generated) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+}
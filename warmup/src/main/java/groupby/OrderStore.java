@@ -0,0 +1,167 @@
+package groupby;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 컬럼형 주문 저장소
+// - 주문을 객체 대신 열(id, userId, amount, epochMillis) 별 long[] 에 쌓는다
+// - 추가할 때 사용자별 주문 수/합계/최신 주문을 같이 갱신 → 사용자 조회는 O(1)
+// - 추가와 조회가 동시에 와도 된다 (추가는 쓰기 락, 조회는 읽기 락 - 둘 다 O(1) 구간만 잡음)
+// - createdAt 은 UTC 기준 epochMillis 로 저장
+public class OrderStore {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids;
+    private long[] userIds;
+    private long[] amounts;
+    private long[] epochMillis;
+    private int size;
+
+    private final UserAggregates users;
+
+    public OrderStore() {
+        this(1 << 10, 1 << 8);
+    }
+
+    public OrderStore(int expectedOrders, int expectedUsers) {
+        int capacity = Math.max(16, expectedOrders);
+        ids = new long[capacity];
+        userIds = new long[capacity];
+        amounts = new long[capacity];
+        epochMillis = new long[capacity];
+        users = new UserAggregates(expectedUsers);
+    }
+
+    public void append(long id, long userId, long amount, long createdAtMillis) {
+        lock.writeLock().lock();
+        try {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                userIds = Arrays.copyOf(userIds, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                epochMillis = Arrays.copyOf(epochMillis, capacity);
+            }
+            int row = size++;
+            ids[row] = id;
+            userIds[row] = userId;
+            amounts[row] = amount;
+            epochMillis[row] = createdAtMillis;
+            users.add(userId, amount, createdAtMillis, row, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void append(Order order) {
+        append(order.id, order.userId, order.amount, order.createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 주문 수 (없으면 0)
+    public long countOrders(long userId) {
+        lock.readLock().lock();
+        try {
+            int user = users.indexOf(userId);
+            return user < 0 ? 0 : users.count(user);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 매출 합계 (없으면 0)
+    public long sumAmount(long userId) {
+        lock.readLock().lock();
+        try {
+            int user = users.indexOf(userId);
+            return user < 0 ? 0 : users.sum(user);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 최신 주문 - 결과 한 건만 Order 로 만든다
+    public Optional<Order> findLatestOrder(long userId) {
+        lock.readLock().lock();
+        try {
+            int user = users.indexOf(userId);
+            if (user < 0) {
+                return Optional.empty();
+            }
+            int row = (int) users.latestRef(user);
+            LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[row]), ZoneOffset.UTC);
+            return Optional.of(new Order(ids[row], userIds[row], amounts[row], createdAt));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 사용자 스냅샷 (Order.countOrdersByUser 와 같은 결과, 값은 Long)
+    public Map<Long, Long> countOrdersByUser() {
+        lock.readLock().lock();
+        try {
+            return users.countsByUser();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 사용자 스냅샷 (Order.sumAmountByUser 와 같은 결과)
+    public Map<Long, Long> sumAmountByUser() {
+        lock.readLock().lock();
+        try {
+            return users.sumsByUser();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        OrderStore store = new OrderStore();
+        store.append(new Order(1, 101, 12000, LocalDateTime.of(2025, 9, 10, 14, 0)));
+        store.append(new Order(2, 101, 8000,  LocalDateTime.of(2025, 9, 12, 9, 30)));
+        store.append(new Order(3, 102, 5000,  LocalDateTime.of(2025, 9, 12, 10, 0)));
+        store.append(new Order(4, 103, 3000,  LocalDateTime.of(2025, 9, 13, 20, 15)));
+        store.append(new Order(5, 101, 16000, LocalDateTime.of(2025, 9, 14, 8, 45)));
+        store.append(new Order(6, 102, 7000,  LocalDateTime.of(2025, 9, 14, 9, 0)));
+
+        System.out.println("[P4] countOrdersByUser: " + store.countOrdersByUser()); // 기대: {101=3, 102=2, 103=1}
+        System.out.println("[P4] sumAmountByUser: " + store.sumAmountByUser());     // 기대: {101=36000, 102=12000, 103=3000}
+        System.out.println("[P4] latest order of 101: " + store.findLatestOrder(101L).map(Order::toString).orElse("N/A"));
+        // 기대: id=5 (2025-09-14 08:45)
+
+        // 추가 중 조회: 쓰기 스레드가 101 주문을 계속 넣는 동안 읽기 스레드는 수가 줄지 않는지 확인
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                store.append(100 + i, 101, 1, 1_800_000_000_000L + i);
+            }
+        });
+        writer.start();
+        long last = 0;
+        while (writer.isAlive()) {
+            long count = store.countOrders(101);
+            if (count < last) {
+                throw new IllegalStateException("count went backwards: " + last + " -> " + count);
+            }
+            last = count;
+        }
+        writer.join();
+        System.out.println("[P4] after concurrent appends: count(101)=" + store.countOrders(101)
+            + ", latest id=" + store.findLatestOrder(101).map(o -> o.id).orElse(-1L)); // 기대: 1000003, 1000099
+    }
+
+}
@@ -0,0 +1,180 @@
+package groupby;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// userId -> (주문 수, 합계, 최신 주문) 원시 배열 집계
+// - userId 는 open addressing 슬롯으로 찾고, 값은 사용자 번호(0..size-1) 기준 배열에 둔다
+// - 최신 주문은 시각(epochMillis), 참조값(ref: 행 번호나 주문 id), 입력 위치(position: 행 번호나 파일 오프셋)만 보관
+// - 같은 시각이면 position 이 작은(먼저 나온) 주문을 유지 (Order.findLatestOrderByUser 의 max 와 같음)
+//   → merge 순서와 상관없이 같은 결과
+// - 스레드 안전하지 않음: OrderStore 는 락 안에서, CSV 로더는 스레드별로 따로 쓴 뒤 merge
+final class UserAggregates {
+
+    private static final int EMPTY = -1;
+
+    private int[] slots;
+    private int mask;
+
+    private long[] userIds;
+    private long[] counts;
+    private long[] sums;
+    private long[] latestMillis;
+    private long[] latestRefs;
+    private long[] latestPositions;
+    private int size;
+
+    UserAggregates(int expectedUsers) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedUsers) * 2 - 1) << 1;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        int entries = capacity >>> 1;
+        userIds = new long[entries];
+        counts = new long[entries];
+        sums = new long[entries];
+        latestMillis = new long[entries];
+        latestRefs = new long[entries];
+        latestPositions = new long[entries];
+    }
+
+    void add(long userId, long amount, long epochMillis, long ref, long position) {
+        int user = indexOrInsert(userId, epochMillis, ref, position);
+        counts[user]++;
+        sums[user] += amount;
+        if (isLater(user, epochMillis, position)) {
+            latestMillis[user] = epochMillis;
+            latestRefs[user] = ref;
+            latestPositions[user] = position;
+        }
+    }
+
+    // 순서와 상관없이 합친다 (최신 주문은 시각, 같으면 position 으로 고름)
+    void merge(UserAggregates other) {
+        for (int o = 0; o < other.size; o++) {
+            int user = indexOrInsert(other.userIds[o], other.latestMillis[o], other.latestRefs[o],
+                other.latestPositions[o]);
+            counts[user] += other.counts[o];
+            sums[user] += other.sums[o];
+            if (isLater(user, other.latestMillis[o], other.latestPositions[o])) {
+                latestMillis[user] = other.latestMillis[o];
+                latestRefs[user] = other.latestRefs[o];
+                latestPositions[user] = other.latestPositions[o];
+            }
+        }
+    }
+
+    // 사용자 번호 (없으면 -1)
+    int indexOf(long userId) {
+        int slot = mix(userId) & mask;
+        while (true) {
+            int user = slots[slot];
+            if (user == EMPTY || userIds[user] == userId) {
+                return user;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long userId(int user) {
+        return userIds[user];
+    }
+
+    long count(int user) {
+        return counts[user];
+    }
+
+    long sum(int user) {
+        return sums[user];
+    }
+
+    long latestMillis(int user) {
+        return latestMillis[user];
+    }
+
+    long latestRef(int user) {
+        return latestRefs[user];
+    }
+
+    Map<Long, Long> countsByUser() {
+        Map<Long, Long> map = new HashMap<>(size * 2);
+        for (int user = 0; user < size; user++) {
+            map.put(userIds[user], counts[user]);
+        }
+        return map;
+    }
+
+    Map<Long, Long> sumsByUser() {
+        Map<Long, Long> map = new HashMap<>(size * 2);
+        for (int user = 0; user < size; user++) {
+            map.put(userIds[user], sums[user]);
+        }
+        return map;
+    }
+
+    private boolean isLater(int user, long epochMillis, long position) {
+        return epochMillis > latestMillis[user]
+            || (epochMillis == latestMillis[user] && position < latestPositions[user]);
+    }
+
+    // 새 사용자는 첫 주문을 최신 주문으로 두고 시작
+    private int indexOrInsert(long userId, long epochMillis, long ref, long position) {
+        int slot = mix(userId) & mask;
+        while (true) {
+            int user = slots[slot];
+            if (user == EMPTY) {
+                break;
+            }
+            if (userIds[user] == userId) {
+                return user;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int user = size++;
+        userIds[user] = userId;
+        latestMillis[user] = epochMillis;
+        latestRefs[user] = ref;
+        latestPositions[user] = position;
+        slots[slot] = user;
+        if (size == userIds.length) {
+            grow();
+        }
+        return user;
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        for (int user = 0; user < size; user++) {
+            int slot = mix(userIds[user]) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = user;
+        }
+        int entries = capacity >>> 1;
+        userIds = Arrays.copyOf(userIds, entries);
+        counts = Arrays.copyOf(counts, entries);
+        sums = Arrays.copyOf(sums, entries);
+        latestMillis = Arrays.copyOf(latestMillis, entries);
+        latestRefs = Arrays.copyOf(latestRefs, entries);
+        latestPositions = Arrays.copyOf(latestPositions, entries);
+    }
+
+    // 연속된 userId 가 이웃 슬롯에 몰리지 않게 섞기 (murmur3 fmix64)
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+}
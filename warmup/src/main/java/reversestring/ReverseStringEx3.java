@@ -0,0 +1,27 @@
+package reversestring;
+
+// 문자열 뒤집기 - SIMD(Vector API) 커널, 모듈이 없으면 스칼라 커널
+// 실행: java --add-modules jdk.incubator.vector reversestring.ReverseStringEx3
+public class ReverseStringEx3 {
+
+    private static final TextKernels KERNELS = TextKernels.best();
+
+    // char 단위 뒤집기 (ReverseStringEx2 와 같은 결과)
+    public static String reverseWithVector(String str) {
+        char[] arr = str.toCharArray();
+        KERNELS.reverse(arr);
+        return new String(arr);
+    }
+
+    public static void main(String[] args) {
+        String str = "HelloWorld";
+        System.out.println("kernels: " + KERNELS.getClass().getSimpleName());
+        System.out.println("reverseWithVector: " + reverseWithVector(str));   // 기대: dlroWolleH
+
+        byte[] line = "Hello, Vector API!".getBytes();
+        KERNELS.toLowerAscii(line);
+        System.out.println("toLowerAscii: " + new String(line));                            // 기대: hello, vector api!
+        System.out.println("indexOf(','): " + KERNELS.indexOf(line, 0, line.length, (byte) ','));  // 기대: 5
+    }
+
+}
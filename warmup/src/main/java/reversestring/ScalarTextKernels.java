@@ -0,0 +1,57 @@
+package reversestring;
+
+// 스칼라 구현 - 벡터 구현의 꼬리(tail) 처리에도 그대로 쓴다
+public class ScalarTextKernels implements TextKernels {
+
+    @Override
+    public void reverse(char[] chars) {
+        reverseRange(chars, 0, chars.length - 1);
+    }
+
+    @Override
+    public void reverse(byte[] bytes) {
+        reverseRange(bytes, 0, bytes.length - 1);
+    }
+
+    @Override
+    public int indexOf(byte[] bytes, int from, int to, byte delimiter) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == delimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void toLowerAscii(byte[] bytes) {
+        toLowerAscii(bytes, 0, bytes.length);
+    }
+
+    // [left, right] 양끝 포인터 스왑
+    static void reverseRange(char[] chars, int left, int right) {
+        while (left < right) {
+            char tmp = chars[left];
+            chars[left++] = chars[right];
+            chars[right--] = tmp;
+        }
+    }
+
+    static void reverseRange(byte[] bytes, int left, int right) {
+        while (left < right) {
+            byte tmp = bytes[left];
+            bytes[left++] = bytes[right];
+            bytes[right--] = tmp;
+        }
+    }
+
+    static void toLowerAscii(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b >= 'A' && b <= 'Z') {
+                bytes[i] = (byte) (b + ('a' - 'A'));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package reversestring;
+
+// 문자열 기본 연산 커널 - 뒤집기, 구분자 찾기, ASCII 소문자 변환
+// - VectorTextKernels: jdk.incubator.vector (SIMD) 구현
+// - ScalarTextKernels: 한 글자씩 처리하는 대체 구현
+// - char[] 뒤집기는 ReverseStringEx2 처럼 char 단위 (서로게이트 쌍은 고려하지 않음)
+public interface TextKernels {
+
+    // 배열 전체를 제자리에서 뒤집기
+    void reverse(char[] chars);
+
+    void reverse(byte[] bytes);
+
+    // bytes[from, to) 에서 delimiter 가 처음 나오는 위치 (없으면 -1)
+    int indexOf(byte[] bytes, int from, int to, byte delimiter);
+
+    // 'A'-'Z' 만 소문자로 바꾼다 (제자리, 그 외 바이트는 그대로)
+    void toLowerAscii(byte[] bytes);
+
+    // 실행 JVM 에 jdk.incubator.vector 모듈이 있으면 벡터 구현, 없으면 스칼라 구현
+    // (--add-modules jdk.incubator.vector 로 실행해야 벡터 구현이 선택된다)
+    static TextKernels best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (TextKernels) Class.forName("reversestring.VectorTextKernels")
+                    .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // 모듈은 있지만 초기화 실패 - 스칼라로 대체
+            }
+        }
+        return new ScalarTextKernels();
+    }
+
+}
@@ -0,0 +1,91 @@
+package reversestring;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+// jdk.incubator.vector 구현 (컴파일/실행 모두 --add-modules jdk.incubator.vector 필요)
+// - 뒤집기: 양끝에서 레인 수만큼 읽어 레인 순서를 뒤집은(rearrange) 뒤 서로 자리를 바꿔 저장
+// - char 는 같은 폭의 ShortVector 로 읽고 쓴다 (fromCharArray / intoCharArray)
+// - 레인 수보다 짧은 가운데/꼬리 구간은 스칼라로 처리
+public class VectorTextKernels implements TextKernels {
+
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    // 레인 순서 뒤집기: L-1, L-2, ..., 0
+    private static final VectorShuffle<Short> REVERSE_CHARS =
+        VectorShuffle.fromOp(CHARS, lane -> CHARS.length() - 1 - lane);
+    private static final VectorShuffle<Byte> REVERSE_BYTES =
+        VectorShuffle.fromOp(BYTES, lane -> BYTES.length() - 1 - lane);
+
+    private static final byte CASE_OFFSET = 'a' - 'A';
+
+    @Override
+    public void reverse(char[] chars) {
+        int lanes = CHARS.length();
+        int left = 0;
+        int right = chars.length - lanes;
+        // 두 블록 [left, left+L), [right, right+L) 이 겹치지 않는 동안
+        while (left + lanes <= right) {
+            ShortVector head = ShortVector.fromCharArray(CHARS, chars, left).rearrange(REVERSE_CHARS);
+            ShortVector tail = ShortVector.fromCharArray(CHARS, chars, right).rearrange(REVERSE_CHARS);
+            tail.intoCharArray(chars, left);
+            head.intoCharArray(chars, right);
+            left += lanes;
+            right -= lanes;
+        }
+        ScalarTextKernels.reverseRange(chars, left, right + lanes - 1);
+    }
+
+    @Override
+    public void reverse(byte[] bytes) {
+        int lanes = BYTES.length();
+        int left = 0;
+        int right = bytes.length - lanes;
+        while (left + lanes <= right) {
+            ByteVector head = ByteVector.fromArray(BYTES, bytes, left).rearrange(REVERSE_BYTES);
+            ByteVector tail = ByteVector.fromArray(BYTES, bytes, right).rearrange(REVERSE_BYTES);
+            tail.intoArray(bytes, left);
+            head.intoArray(bytes, right);
+            left += lanes;
+            right -= lanes;
+        }
+        ScalarTextKernels.reverseRange(bytes, left, right + lanes - 1);
+    }
+
+    @Override
+    public int indexOf(byte[] bytes, int from, int to, byte delimiter) {
+        int i = from;
+        int upper = from + BYTES.loopBound(to - from);
+        for (; i < upper; i += BYTES.length()) {
+            VectorMask<Byte> hits = ByteVector.fromArray(BYTES, bytes, i).eq(delimiter);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (bytes[i] == delimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void toLowerAscii(byte[] bytes) {
+        int i = 0;
+        int upper = BYTES.loopBound(bytes.length);
+        for (; i < upper; i += BYTES.length()) {
+            ByteVector v = ByteVector.fromArray(BYTES, bytes, i);
+            VectorMask<Byte> upperCase = v.compare(VectorOperators.GE, (byte) 'A')
+                .and(v.compare(VectorOperators.LE, (byte) 'Z'));
+            v.add(CASE_OFFSET, upperCase).intoArray(bytes, i);
+        }
+        ScalarTextKernels.toLowerAscii(bytes, i, bytes.length);
+    }
+
+}
@@ -0,0 +1,199 @@
+package sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// int[] 중복 제거 후 정렬 - 박싱 없는 엔진들과 입력 통계 기반 선택기
+// - SORT_COMPACT: 복사본 정렬 후 인접 중복을 앞으로 당겨 압축 (이미 오름차순이면 정렬 생략)
+// - BITSET: 값 범위(max - min)가 작을 때 범위 크기의 비트셋에 표시 후 순서대로 꺼냄 - 정렬 없음
+// - PARALLEL: Arrays.parallelSort 후 구간별 "남길 개수"의 누적 합(prefix sum)으로 출력 위치를 정해 병렬 압축
+public class IntDedupeSort {
+
+    public enum Engine {
+        SORT_COMPACT,
+        BITSET,
+        PARALLEL
+    }
+
+    // 비트셋은 범위가 원소 수의 이 배수 이하일 때만 (비트셋 스캔 = range / 64 워드)
+    private static final long BITSET_RANGE_PER_ELEMENT = 32;
+
+    // 병렬 엔진 최소 크기 - 이보다 작으면 작업 분배 비용이 더 큼
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    // 병렬 압축 구간 최소 크기
+    private static final int MIN_CHUNK = 1 << 14;
+
+    // 입력 한 번 훑어서 얻는 통계
+    public static final class Stats {
+
+        public final int length;
+        public final int min;
+        public final int max;
+        public final boolean ascending;
+
+        private Stats(int length, int min, int max, boolean ascending) {
+            this.length = length;
+            this.min = min;
+            this.max = max;
+            this.ascending = ascending;
+        }
+
+        public static Stats of(int[] nums) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            boolean ascending = true;
+            for (int i = 0; i < nums.length; i++) {
+                int v = nums[i];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+                if (i > 0 && nums[i - 1] > v) {
+                    ascending = false;
+                }
+            }
+            return new Stats(nums.length, min, max, ascending);
+        }
+
+        // 값 범위 크기 (max - min + 1), 빈 입력이면 0
+        public long range() {
+            return length == 0 ? 0 : (long) max - min + 1;
+        }
+
+    }
+
+    // 통계로 엔진 고르기
+    // - 이미 정렬: 압축만 하면 되므로 SORT_COMPACT (O(n))
+    // - 범위가 좁음: BITSET (O(n + range / 64))
+    // - 큰 입력 + 여러 코어: PARALLEL
+    public static Engine choose(Stats stats) {
+        if (stats.ascending) {
+            return Engine.SORT_COMPACT;
+        }
+        if (stats.range() <= Math.max(1024, stats.length * BITSET_RANGE_PER_ELEMENT)) {
+            return Engine.BITSET;
+        }
+        if (stats.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return Engine.PARALLEL;
+        }
+        return Engine.SORT_COMPACT;
+    }
+
+    // 엔진 자동 선택
+    public static int[] dedupeAndSort(int[] nums) {
+        Stats stats = Stats.of(nums);
+        return dedupeAndSort(nums, choose(stats), stats);
+    }
+
+    public static int[] dedupeAndSort(int[] nums, Engine engine) {
+        return dedupeAndSort(nums, engine, Stats.of(nums));
+    }
+
+    private static int[] dedupeAndSort(int[] nums, Engine engine, Stats stats) {
+        switch (engine) {
+            case BITSET:
+                return bitset(nums, stats.min, stats.range());
+            case PARALLEL:
+                return parallelSortCompact(nums);
+            default:
+                return sortCompact(nums, stats.ascending);
+        }
+    }
+
+    static int[] sortCompact(int[] nums, boolean ascending) {
+        int[] arr = nums.clone();
+        if (!ascending) {
+            Arrays.sort(arr);
+        }
+        int size = 0;
+        for (int i = 0; i < arr.length; i++) {
+            if (size == 0 || arr[size - 1] != arr[i]) {
+                arr[size++] = arr[i];
+            }
+        }
+        return Arrays.copyOf(arr, size);
+    }
+
+    static int[] bitset(int[] nums, int min, long range) {
+        // range 는 최대 2^32 → 워드 최대 2^26 개 (512MB)
+        long[] bits = new long[(int) ((range + 63) >>> 6)];
+        for (int v : nums) {
+            long offset = (long) v - min;
+            bits[(int) (offset >>> 6)] |= 1L << offset;
+        }
+
+        int size = 0;
+        for (long word : bits) {
+            size += Long.bitCount(word);
+        }
+        int[] out = new int[size];
+        int k = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                out[k++] = (int) (min + ((long) w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return out;
+    }
+
+    static int[] parallelSortCompact(int[] nums) {
+        int[] sorted = nums.clone();
+        Arrays.parallelSort(sorted);
+        int n = sorted.length;
+        if (n == 0) {
+            return sorted;
+        }
+
+        int chunks = (int) Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L, (n + MIN_CHUNK - 1) / MIN_CHUNK);
+        chunks = Math.max(1, chunks);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // 1) 구간별로 남길 원소 수 (앞 원소와 다르면 남김 - 구간 첫 원소는 이전 구간 마지막과 비교)
+        int[] offsets = new int[chunks + 1];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * chunkSize;
+            int to = Math.min(n, from + chunkSize);
+            int keep = 0;
+            for (int i = from; i < to; i++) {
+                if (i == 0 || sorted[i - 1] != sorted[i]) {
+                    keep++;
+                }
+            }
+            offsets[c + 1] = keep;
+        });
+
+        // 2) 누적 합 = 각 구간의 출력 시작 위치
+        for (int c = 0; c < chunks; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+
+        // 3) 구간별로 자기 위치에 기록
+        int[] out = new int[offsets[chunks]];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * chunkSize;
+            int to = Math.min(n, from + chunkSize);
+            int k = offsets[c];
+            for (int i = from; i < to; i++) {
+                if (i == 0 || sorted[i - 1] != sorted[i]) {
+                    out[k++] = sorted[i];
+                }
+            }
+        });
+        return out;
+    }
+
+    public static void main(String[] args) {
+        int[] nums = {5, 3, 3, 9, 1, 5, 7, 1, 2};
+        for (Engine engine : Engine.values()) {
+            System.out.println("[P3] " + engine + ": " + Arrays.toString(dedupeAndSort(nums, engine)));  // 기대: [1,2,3,5,7,9]
+        }
+        System.out.println("[P3] chosen: " + choose(Stats.of(nums)));  // 기대: BITSET (범위 9)
+    }
+
+}